@@ -0,0 +1,69 @@
+package com.test.todoapp.benchmark;
+
+import com.test.todoapp.config.security.JwtUtil;
+import com.test.todoapp.config.security.VerifiedTokenCache;
+import com.test.todoapp.model.entity.Task;
+import com.test.todoapp.model.entity.User;
+import com.test.todoapp.model.enums.ObjStatus;
+import com.test.todoapp.model.enums.Role;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Builds the domain objects shared by the benchmarks.
+ */
+final class Fixtures {
+
+    static final String SECRET_KEY = "ZmFrZS1iZW5jaG1hcmstc2VjcmV0LWtleS1mb3ItaG1hYy1zaGEyNTYtc2lnbmluZw==";
+
+    private Fixtures() {
+    }
+
+    static Task task(int i) {
+        final LocalDateTime now = LocalDateTime.now();
+        return Task.builder()
+                .id(String.format("%024x", i))
+                .title("Task " + i)
+                .description("Description of task " + i + " with a realistic amount of text in it")
+                .userId("65f0c0ffee0000000000beef")
+                .createdAt(now)
+                .updatedAt(now)
+                .objStatus(ObjStatus.ACTIVE)
+                .build();
+    }
+
+    static Set<Task> tasks(int count) {
+        final Set<Task> tasks = new HashSet<>();
+        for (int i = 0; i < count; i++) {
+            tasks.add(task(i));
+        }
+        return tasks;
+    }
+
+    static User user() {
+        return User.builder()
+                .id("65f0c0ffee0000000000beef")
+                .name("Bench")
+                .email("bench@test.com")
+                .password("$2a$10$abcdefghijklmnopqrstuv")
+                .role(Role.LEADER)
+                .objStatus(ObjStatus.ACTIVE)
+                .build();
+    }
+
+    /**
+     * Creates a {@link JwtUtil} outside Spring, injecting what {@code @Value} and
+     * {@code @PostConstruct} would.
+     */
+    static JwtUtil jwtUtil() {
+        final JwtUtil jwtUtil = new JwtUtil(new VerifiedTokenCache(10_000), new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(jwtUtil, "secretKey", SECRET_KEY);
+        ReflectionTestUtils.setField(jwtUtil, "jwtExpiration", 86_400_000L);
+        ReflectionTestUtils.invokeMethod(jwtUtil, "init");
+        return jwtUtil;
+    }
+}
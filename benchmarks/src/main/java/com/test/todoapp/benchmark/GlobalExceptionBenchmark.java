@@ -0,0 +1,50 @@
+package com.test.todoapp.benchmark;
+
+import com.test.todoapp.exception.ErrorCode;
+import com.test.todoapp.exception.ExceptionRes;
+import com.test.todoapp.exception.GlobalException;
+import com.test.todoapp.exception.NotFoundException;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class GlobalExceptionBenchmark {
+
+    private GlobalException globalException;
+
+    private MockHttpServletRequest request;
+
+    private NotFoundException notFoundException;
+
+    @Setup
+    public void setup() {
+        globalException = new GlobalException();
+        request = new MockHttpServletRequest("GET", "/api/v1/tasks/65f0c0ffee0000000000beef");
+        notFoundException = new NotFoundException(ErrorCode.TASK_NOT_FOUND.getErrMessage());
+    }
+
+    /**
+     * Response building only, with a pre-allocated exception.
+     */
+    @Benchmark
+    public ExceptionRes buildNotFoundResponse() {
+        return globalException.handleNotFoundErrors(request, notFoundException);
+    }
+
+    /**
+     * Exception creation (including the stack trace) plus response building,
+     * as paid by every lookup of an unknown ID.
+     */
+    @Benchmark
+    public ExceptionRes createAndBuildNotFoundResponse() {
+        return globalException.handleNotFoundErrors(request,
+                new NotFoundException(ErrorCode.TASK_NOT_FOUND.getErrMessage()));
+    }
+}
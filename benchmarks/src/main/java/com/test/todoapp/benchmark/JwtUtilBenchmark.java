@@ -0,0 +1,51 @@
+package com.test.todoapp.benchmark;
+
+import com.test.todoapp.config.security.JwtUtil;
+import com.test.todoapp.model.entity.User;
+import io.jsonwebtoken.Claims;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class JwtUtilBenchmark {
+
+    private JwtUtil jwtUtil;
+
+    private User user;
+
+    private String token;
+
+    @Setup
+    public void setup() {
+        jwtUtil = Fixtures.jwtUtil();
+        user = Fixtures.user();
+        token = jwtUtil.generateToken(user);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtUtil.generateToken(user);
+    }
+
+    /**
+     * Validation of a replayed token, served by the verified-token cache.
+     */
+    @Benchmark
+    public boolean isTokenValidCached() {
+        return jwtUtil.isTokenValid(token, user);
+    }
+
+    /**
+     * Full parse and HMAC verification, bypassing the verified-token cache.
+     */
+    @Benchmark
+    public String parseAndVerifyUncached() {
+        return jwtUtil.extractClaim(token, Claims::getSubject);
+    }
+}
@@ -0,0 +1,50 @@
+package com.test.todoapp.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.test.todoapp.converter.TaskConverter;
+import com.test.todoapp.dtos.PageRes;
+import com.test.todoapp.dtos.task.TaskRes;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class PageResSerializationBenchmark {
+
+    @Param({"10", "100"})
+    private int pageSize;
+
+    private ObjectMapper objectMapper;
+
+    private PageRes<TaskRes> page;
+
+    @Setup
+    public void setup() {
+        objectMapper = JsonMapper.builder()
+                .addModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        page = new PageRes<>(
+                TaskConverter.convertToDtoList(Fixtures.tasks(pageSize)),
+                0,
+                pageSize,
+                10_000L,
+                10_000 / pageSize,
+                false
+        );
+    }
+
+    @Benchmark
+    public byte[] serializePageRes() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(page);
+    }
+}
@@ -0,0 +1,41 @@
+package com.test.todoapp.benchmark;
+
+import com.test.todoapp.converter.TaskConverter;
+import com.test.todoapp.dtos.task.TaskRes;
+import com.test.todoapp.model.entity.Task;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class TaskConverterBenchmark {
+
+    @Param({"10", "1000"})
+    private int size;
+
+    private Task task;
+
+    private Set<Task> tasks;
+
+    @Setup
+    public void setup() {
+        task = Fixtures.task(1);
+        tasks = Fixtures.tasks(size);
+    }
+
+    @Benchmark
+    public TaskRes convertToDto() {
+        return TaskConverter.convertToDto(task);
+    }
+
+    @Benchmark
+    public Set<TaskRes> convertToDtoList() {
+        return TaskConverter.convertToDtoList(tasks);
+    }
+}
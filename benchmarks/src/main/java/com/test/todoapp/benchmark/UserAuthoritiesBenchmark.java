@@ -0,0 +1,38 @@
+package com.test.todoapp.benchmark;
+
+import com.test.todoapp.config.security.UserPrincipal;
+import com.test.todoapp.model.entity.User;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class UserAuthoritiesBenchmark {
+
+    private User user;
+
+    private UserPrincipal principal;
+
+    @Setup
+    public void setup() {
+        user = Fixtures.user();
+        principal = UserPrincipal.from(user);
+    }
+
+    @Benchmark
+    public Collection<? extends GrantedAuthority> userGetAuthorities() {
+        return user.getAuthorities();
+    }
+
+    @Benchmark
+    public Collection<? extends GrantedAuthority> principalGetAuthorities() {
+        return principal.getAuthorities();
+    }
+}
@@ -0,0 +1,72 @@
+package com.test.todoapp.loadtest;
+
+import com.test.todoapp.model.entity.Task;
+import com.test.todoapp.model.entity.User;
+import com.test.todoapp.model.enums.ObjStatus;
+import com.test.todoapp.model.enums.Role;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Seeds users and tasks straight into MongoDB through the application's {@link MongoTemplate}.
+ */
+public class DatasetSeeder {
+
+    public static final String PASSWORD = "Passw0rd!";
+
+    private static final int BATCH_SIZE = 1_000;
+
+    private final MongoTemplate mongoTemplate;
+
+    private final PasswordEncoder passwordEncoder;
+
+    public DatasetSeeder(MongoTemplate mongoTemplate, PasswordEncoder passwordEncoder) {
+        this.mongoTemplate = mongoTemplate;
+        this.passwordEncoder = passwordEncoder;
+    }
+
+    /**
+     * Inserts the configured number of users, all sharing {@link #PASSWORD}, and their tasks.
+     *
+     * @param config The load test settings.
+     * @return The seeded users, with their IDs.
+     */
+    public List<User> seed(LoadTestConfig config) {
+        final String passwordHash = passwordEncoder.encode(PASSWORD);
+        final List<User> users = new ArrayList<>(config.users());
+        for (int i = 0; i < config.users(); i++) {
+            users.add(User.builder()
+                    .name("Load user " + i)
+                    .email("load" + i + "@test.com")
+                    .password(passwordHash)
+                    .role(Role.LEADER)
+                    .objStatus(ObjStatus.ACTIVE)
+                    .build());
+        }
+        final Collection<User> savedUsers = mongoTemplate.insert(users, User.class);
+
+        final List<Task> batch = new ArrayList<>(BATCH_SIZE);
+        for (User user : savedUsers) {
+            for (int i = 0; i < config.tasksPerUser(); i++) {
+                batch.add(Task.builder()
+                        .title("Task " + i + " of " + user.getName())
+                        .description("Seeded task " + i)
+                        .userId(user.getId())
+                        .objStatus(ObjStatus.ACTIVE)
+                        .build());
+                if (batch.size() == BATCH_SIZE) {
+                    mongoTemplate.insert(batch, Task.class);
+                    batch.clear();
+                }
+            }
+        }
+        if (!batch.isEmpty()) {
+            mongoTemplate.insert(batch, Task.class);
+        }
+        return new ArrayList<>(savedUsers);
+    }
+}
@@ -0,0 +1,38 @@
+package com.test.todoapp.loadtest;
+
+import de.flapdoodle.embed.mongo.commands.ServerAddress;
+import de.flapdoodle.embed.mongo.distribution.Version;
+import de.flapdoodle.embed.mongo.transitions.Mongod;
+import de.flapdoodle.embed.mongo.transitions.RunningMongodProcess;
+import de.flapdoodle.reverse.TransitionWalker;
+
+/**
+ * A throw-away mongod process, downloaded and started by flapdoodle, so the load test does
+ * not need a running database or Docker.
+ */
+public class EmbeddedMongo implements AutoCloseable {
+
+    private final TransitionWalker.ReachedState<RunningMongodProcess> running;
+
+    private EmbeddedMongo(TransitionWalker.ReachedState<RunningMongodProcess> running) {
+        this.running = running;
+    }
+
+    public static EmbeddedMongo start() {
+        return new EmbeddedMongo(Mongod.instance().start(Version.Main.V7_0));
+    }
+
+    /**
+     * @param database The database name.
+     * @return The connection string of the given database on this process.
+     */
+    public String uri(String database) {
+        final ServerAddress address = running.current().getServerAddress();
+        return "mongodb://" + address.getHost() + ":" + address.getPort() + "/" + database;
+    }
+
+    @Override
+    public void close() {
+        running.close();
+    }
+}
@@ -0,0 +1,34 @@
+package com.test.todoapp.loadtest;
+
+/**
+ * Result of driving one endpoint.
+ *
+ * @param endpoint The name of the endpoint.
+ * @param requests The number of requests sent.
+ * @param errors The number of failed or non-2xx responses.
+ * @param throughput The completed requests per second.
+ * @param p50Millis The median latency, in milliseconds.
+ * @param p99Millis The 99th percentile latency, in milliseconds.
+ * @param p999Millis The 99.9th percentile latency, in milliseconds.
+ */
+public record LatencyReport(
+        String endpoint,
+        long requests,
+        long errors,
+        double throughput,
+        double p50Millis,
+        double p99Millis,
+        double p999Millis
+) {
+
+    public static String header() {
+        return String.format("%-18s %9s %7s %10s %9s %9s %9s",
+                "endpoint", "requests", "errors", "req/s", "p50 ms", "p99 ms", "p999 ms");
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%-18s %9d %7d %10.1f %9.2f %9.2f %9.2f",
+                endpoint, requests, errors, throughput, p50Millis, p99Millis, p999Millis);
+    }
+}
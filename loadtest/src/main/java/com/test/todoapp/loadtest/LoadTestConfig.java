@@ -0,0 +1,37 @@
+package com.test.todoapp.loadtest;
+
+import java.time.Duration;
+
+/**
+ * Load test settings, read from system properties prefixed with {@code loadtest.}.
+ *
+ * @param users The number of seeded users.
+ * @param tasksPerUser The number of seeded tasks per user.
+ * @param rate The request arrival rate per endpoint, in requests per second.
+ * @param duration How long each endpoint is driven.
+ * @param warmup How long each endpoint is driven before measuring.
+ * @param maxP99Millis The p99 latency above which the run fails, or 0 to never fail.
+ * @param profiles The Spring profiles todo-app is started with, comma separated, or empty.
+ */
+public record LoadTestConfig(
+        int users,
+        int tasksPerUser,
+        int rate,
+        Duration duration,
+        Duration warmup,
+        long maxP99Millis,
+        String profiles
+) {
+
+    public static LoadTestConfig fromSystemProperties() {
+        return new LoadTestConfig(
+                Integer.getInteger("loadtest.users", 100),
+                Integer.getInteger("loadtest.tasksPerUser", 200),
+                Integer.getInteger("loadtest.rate", 200),
+                Duration.ofSeconds(Long.getLong("loadtest.durationSeconds", 30L)),
+                Duration.ofSeconds(Long.getLong("loadtest.warmupSeconds", 10L)),
+                Long.getLong("loadtest.maxP99Millis", 0L),
+                System.getProperty("loadtest.profiles", "")
+        );
+    }
+}
@@ -0,0 +1,160 @@
+package com.test.todoapp.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.test.todoapp.TodoAppApplication;
+import com.test.todoapp.model.entity.User;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * Starts todo-app on a random port against an embedded MongoDB, seeds it, then drives each
+ * endpoint in turn at a fixed arrival rate and prints throughput and latency percentiles.
+ * Exits with status 1 when an endpoint had errors or when its p99 is above
+ * {@code loadtest.maxP99Millis}.
+ */
+public class LoadTestMain {
+
+    private static final String SECRET_KEY =
+            "bG9hZC10ZXN0LW9ubHktc2VjcmV0LWtleS1ub3QtZm9yLXByb2R1Y3Rpb24tdXNlIQ==";
+
+    private static final int LOGGED_IN_USERS = 50;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .build();
+
+    private String baseUrl;
+
+    private List<User> users;
+
+    private List<String> tokens;
+
+    public static void main(String[] args) throws Exception {
+        final LoadTestConfig config = LoadTestConfig.fromSystemProperties();
+        final List<LatencyReport> reports;
+
+        try (EmbeddedMongo mongo = EmbeddedMongo.start();
+             ConfigurableApplicationContext context = SpringApplication.run(TodoAppApplication.class,
+                     "--server.port=0",
+                     "--management.server.port=0",
+                     "--spring.data.mongodb.uri=" + mongo.uri("loadtest"),
+                     "--application.security.jwt.secret-key=" + SECRET_KEY,
+                     "--application.rate-limit.enabled=false",
+                     "--spring.profiles.active=" + config.profiles(),
+                     "--logging.level.root=WARN")) {
+            reports = new LoadTestMain().run(context, config);
+        }
+
+        System.out.println(LatencyReport.header());
+        reports.forEach(System.out::println);
+
+        if (reports.stream().anyMatch(report -> report.errors() > 0)) {
+            System.err.println("Requests failed");
+            System.exit(1);
+        }
+        if (config.maxP99Millis() > 0
+                && reports.stream().anyMatch(report -> report.p99Millis() > config.maxP99Millis())) {
+            System.err.println("p99 above " + config.maxP99Millis() + " ms");
+            System.exit(1);
+        }
+    }
+
+    private List<LatencyReport> run(ConfigurableApplicationContext context, LoadTestConfig config)
+            throws IOException, InterruptedException {
+        baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port") + "/api";
+        users = new DatasetSeeder(context.getBean(MongoTemplate.class), context.getBean(PasswordEncoder.class))
+                .seed(config);
+        tokens = new ArrayList<>();
+        for (User user : users.subList(0, Math.min(LOGGED_IN_USERS, users.size()))) {
+            tokens.add(login(user));
+        }
+
+        final Map<String, Supplier<HttpRequest>> endpoints = Map.of(
+                "login", () -> post("/v1/auth/login", loginBody(randomUser()), null),
+                "getTasksByUserId", () -> get("/v1/tasks/user/" + randomUser().getId()),
+                "search", () -> get("/v1/tasks/search?mode=prefix&sortBy=title&sortDir=asc&title=Task%20"
+                        + ThreadLocalRandom.current().nextInt(config.tasksPerUser())),
+                "searchUser", () -> get("/v1/tasks/user/" + randomUser().getId()
+                        + "/search?mode=prefix&sortBy=title&sortDir=asc&title=Task"),
+                "searchCursor", () -> get("/v1/tasks/search/cursor?mode=prefix&sortBy=title&sortDir=asc&title=Task"),
+                "createTask", () -> {
+                    final User user = randomUser();
+                    return post("/v1/tasks", json(Map.of(
+                            "title", "Load task",
+                            "description", "Created under load",
+                            "userId", user.getId())), randomToken());
+                }
+        );
+
+        final OpenModelLoadGenerator generator = new OpenModelLoadGenerator(httpClient);
+        final List<LatencyReport> reports = new ArrayList<>();
+        for (Map.Entry<String, Supplier<HttpRequest>> endpoint : endpoints.entrySet()) {
+            generator.run(endpoint.getKey(), endpoint.getValue(), config.rate(), config.warmup());
+            reports.add(generator.run(endpoint.getKey(), endpoint.getValue(), config.rate(), config.duration()));
+        }
+        return reports;
+    }
+
+    private String login(User user) throws IOException, InterruptedException {
+        final HttpResponse<String> response = httpClient.send(
+                post("/v1/auth/login", loginBody(user), null), HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() >= 400) {
+            throw new IllegalStateException("Login failed for " + user.getEmail() + ": " + response.body());
+        }
+        return objectMapper.readTree(response.body()).get("token").asText();
+    }
+
+    private String loginBody(User user) {
+        return json(Map.of("email", user.getEmail(), "password", DatasetSeeder.PASSWORD));
+    }
+
+    private HttpRequest get(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Authorization", "Bearer " + randomToken())
+                .GET()
+                .build();
+    }
+
+    private HttpRequest post(String path, String body, String token) {
+        final HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body));
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        return builder.build();
+    }
+
+    private String json(Map<String, String> body) {
+        try {
+            return objectMapper.writeValueAsString(body);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private User randomUser() {
+        return users.get(ThreadLocalRandom.current().nextInt(users.size()));
+    }
+
+    private String randomToken() {
+        return tokens.get(ThreadLocalRandom.current().nextInt(tokens.size()));
+    }
+}
@@ -0,0 +1,87 @@
+package com.test.todoapp.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+/**
+ * Open-model load generator: requests are issued at a fixed arrival rate whatever the
+ * response times are, and each latency is measured from the request's intended start time,
+ * so a stalled server shows up in the percentiles instead of slowing the generator down.
+ */
+public class OpenModelLoadGenerator {
+
+    private static final long NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final HttpClient httpClient;
+
+    public OpenModelLoadGenerator(HttpClient httpClient) {
+        this.httpClient = httpClient;
+    }
+
+    /**
+     * Drives one endpoint at the given rate.
+     *
+     * @param endpoint The name of the endpoint, used in the report.
+     * @param requests Supplies the request to send for each arrival.
+     * @param rate The arrival rate, in requests per second.
+     * @param duration How long to drive the endpoint.
+     * @return The {@link LatencyReport} of the run.
+     */
+    public LatencyReport run(String endpoint, Supplier<HttpRequest> requests,
+                             int rate, Duration duration) {
+        final Histogram histogram = new ConcurrentHistogram(TimeUnit.MINUTES.toNanos(5), 3);
+        final AtomicLong errors = new AtomicLong();
+        final long interval = NANOS_PER_SECOND / rate;
+        final long total = rate * duration.toSeconds();
+        final List<CompletableFuture<?>> inFlight = new ArrayList<>((int) total);
+        final long start = System.nanoTime();
+
+        for (long i = 0; i < total; i++) {
+            final long intendedStart = start + i * interval;
+            final long wait = intendedStart - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+
+            inFlight.add(httpClient
+                    .sendAsync(requests.get(), HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, ex) -> {
+                        histogram.recordValue(System.nanoTime() - intendedStart);
+                        if (ex != null || response.statusCode() >= 400) {
+                            errors.incrementAndGet();
+                        }
+                    }));
+        }
+
+        CompletableFuture.allOf(inFlight.toArray(CompletableFuture[]::new))
+                .exceptionally(ex -> null)
+                .join();
+        final double elapsedSeconds = (double) (System.nanoTime() - start) / NANOS_PER_SECOND;
+
+        return new LatencyReport(
+                endpoint,
+                total,
+                errors.get(),
+                total / elapsedSeconds,
+                toMillis(histogram.getValueAtPercentile(50)),
+                toMillis(histogram.getValueAtPercentile(99)),
+                toMillis(histogram.getValueAtPercentile(99.9))
+        );
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+}
@@ -0,0 +1,24 @@
+package com.test.todoapp.reactive;
+
+import com.test.todoapp.config.security.JwtUtil;
+import com.test.todoapp.config.security.VerifiedTokenCache;
+import com.test.todoapp.model.listener.TaskTitleKeyListener;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.mongodb.config.EnableReactiveMongoAuditing;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+@SpringBootApplication
+@EnableReactiveMongoAuditing
+@EnableScheduling
+@EntityScan("com.test.todoapp.model.entity")
+@Import({JwtUtil.class, VerifiedTokenCache.class, TaskTitleKeyListener.class})
+public class ReactiveTodoAppApplication {
+
+    public static void main(String[] args) {
+        SpringApplication.run(ReactiveTodoAppApplication.class, args);
+    }
+
+}
@@ -0,0 +1,69 @@
+package com.test.todoapp.reactive.config;
+
+import com.test.todoapp.config.security.JwtClaims;
+import com.test.todoapp.config.security.JwtUtil;
+import io.jsonwebtoken.JwtException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.security.core.userdetails.ReactiveUserDetailsService;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+import java.util.Optional;
+
+/**
+ * Reactive equivalent of the servlet {@code JwtFilter}: validates the bearer token, rejects
+ * revoked ones and stores the authentication in the reactive security context.
+ */
+@RequiredArgsConstructor
+public class JwtAuthenticationWebFilter implements WebFilter {
+
+    private final JwtUtil jwtUtil;
+
+    private final ReactiveUserDetailsService userDetailsService;
+
+    private final ReactiveTokenRevocationService tokenRevocationService;
+
+    /**
+     * Filters incoming exchanges to validate JWT tokens and set the authentication context.
+     *
+     * @param exchange The current server exchange.
+     * @param chain The filter chain to proceed with the next filters.
+     * @return A {@link Mono} completing when the rest of the chain completes.
+     */
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        final String authHeader = exchange.getRequest().getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
+
+        if (authHeader == null || !authHeader.startsWith("Bearer ")) {
+            return chain.filter(exchange);
+        }
+
+        final JwtClaims claims;
+        try {
+            claims = jwtUtil.parseToken(authHeader.substring(7));
+        } catch (JwtException | IllegalArgumentException ex) {
+            return chain.filter(exchange);
+        }
+        if (tokenRevocationService.isRevoked(claims)) {
+            return chain.filter(exchange);
+        }
+
+        return userDetailsService.findByUsername(claims.subject())
+                .filter(userDetails -> jwtUtil.isTokenValid(claims, userDetails))
+                .map(userDetails -> Optional.<Authentication>of(new UsernamePasswordAuthenticationToken(
+                        userDetails,
+                        null,
+                        userDetails.getAuthorities())))
+                .defaultIfEmpty(Optional.empty())
+                .flatMap(authentication -> authentication
+                        .map(auth -> chain.filter(exchange)
+                                .contextWrite(ReactiveSecurityContextHolder.withAuthentication(auth)))
+                        .orElseGet(() -> chain.filter(exchange)));
+    }
+}
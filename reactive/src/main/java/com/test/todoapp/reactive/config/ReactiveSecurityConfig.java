@@ -0,0 +1,58 @@
+package com.test.todoapp.reactive.config;
+
+import com.test.todoapp.config.security.JwtUtil;
+import com.test.todoapp.config.security.UserPrincipal;
+import com.test.todoapp.reactive.repository.ReactiveUserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.config.annotation.method.configuration.EnableReactiveMethodSecurity;
+import org.springframework.security.config.annotation.web.reactive.EnableWebFluxSecurity;
+import org.springframework.security.config.web.server.SecurityWebFiltersOrder;
+import org.springframework.security.config.web.server.ServerHttpSecurity;
+import org.springframework.security.core.userdetails.ReactiveUserDetailsService;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.web.server.SecurityWebFilterChain;
+import org.springframework.security.web.server.context.NoOpServerSecurityContextRepository;
+
+@Configuration
+@RequiredArgsConstructor
+@EnableWebFluxSecurity
+@EnableReactiveMethodSecurity
+public class ReactiveSecurityConfig {
+
+    private static final String[] AUTH_WHITELIST = {
+            "/api/v1/auth/**",
+            "/api-docs/**"
+    };
+
+    private final ReactiveUserRepository userRepository;
+
+    private final JwtUtil jwtUtil;
+
+    private final ReactiveTokenRevocationService tokenRevocationService;
+
+    @Bean
+    public ReactiveUserDetailsService reactiveUserDetailsService() {
+        return email -> userRepository.findActivePrincipalByEmail(email)
+                .map(user -> (UserDetails) UserPrincipal.from(user));
+    }
+
+    @Bean
+    public SecurityWebFilterChain securityWebFilterChain(ServerHttpSecurity http) {
+        return http
+                .csrf(ServerHttpSecurity.CsrfSpec::disable)
+                .httpBasic(ServerHttpSecurity.HttpBasicSpec::disable)
+                .formLogin(ServerHttpSecurity.FormLoginSpec::disable)
+                .securityContextRepository(NoOpServerSecurityContextRepository.getInstance())
+                .authorizeExchange(exchange -> exchange
+                        .pathMatchers(AUTH_WHITELIST).permitAll()
+                        .anyExchange().authenticated()
+                )
+                .addFilterAt(
+                        new JwtAuthenticationWebFilter(jwtUtil, reactiveUserDetailsService(),
+                                tokenRevocationService),
+                        SecurityWebFiltersOrder.AUTHENTICATION)
+                .build();
+    }
+}
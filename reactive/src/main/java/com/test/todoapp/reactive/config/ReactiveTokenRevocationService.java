@@ -0,0 +1,61 @@
+package com.test.todoapp.reactive.config;
+
+import com.test.todoapp.config.security.JwtClaims;
+import com.test.todoapp.config.security.TokenRevocationList;
+import com.test.todoapp.reactive.repository.ReactiveTokenRevocationRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+/**
+ * Reactive counterpart of the servlet {@code TokenRevocationService}: pulls the revocations
+ * stored by the servlet application into an in-memory {@link TokenRevocationList}, so that
+ * checking a token needs no database read. Tokens are only revoked on the servlet side.
+ */
+@Slf4j
+@Service
+public class ReactiveTokenRevocationService {
+
+    private final ReactiveTokenRevocationRepository tokenRevocationRepository;
+
+    private final TokenRevocationList revocationList;
+
+    public ReactiveTokenRevocationService(
+            ReactiveTokenRevocationRepository tokenRevocationRepository,
+            @Value("${application.security.jwt.expiration}") long jwtExpiration,
+            @Value("${application.security.revocation.refresh-overlap:5000}") long refreshOverlap) {
+        this.tokenRevocationRepository = tokenRevocationRepository;
+        this.revocationList = new TokenRevocationList(
+                Duration.ofMillis(jwtExpiration), Duration.ofMillis(refreshOverlap));
+    }
+
+    /**
+     * Checks a verified token against the in-memory revocation list.
+     *
+     * @param claims The claims of the token.
+     * @return true if the token or every token of its subject issued until then was revoked.
+     */
+    public boolean isRevoked(JwtClaims claims) {
+        return revocationList.isRevoked(claims);
+    }
+
+    /**
+     * Pulls the revocations created since the last refresh into the in-memory list.
+     *
+     * @return A {@link Mono} completing once the list is refreshed, even if the read failed.
+     */
+    @Scheduled(fixedDelayString = "${application.security.revocation.refresh-interval:10000}")
+    public Mono<Void> refresh() {
+        return Mono.defer(() -> tokenRevocationRepository
+                        .findAllCreatedAfter(revocationList.refreshFrom())
+                        .collectList())
+                .doOnNext(revocationList::refresh)
+                .doOnError(ex -> log.error("Token revocation refresh failed, retrying at next interval", ex))
+                .onErrorComplete()
+                .then();
+    }
+}
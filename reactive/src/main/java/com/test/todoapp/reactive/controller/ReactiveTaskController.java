@@ -0,0 +1,151 @@
+package com.test.todoapp.reactive.controller;
+
+import com.test.todoapp.constants.APIEndPoint;
+import com.test.todoapp.dtos.PageRes;
+import com.test.todoapp.dtos.task.TaskReq;
+import com.test.todoapp.dtos.task.TaskRes;
+import com.test.todoapp.reactive.service.ReactiveTaskService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping(APIEndPoint.PREFIX)
+public class ReactiveTaskController {
+
+    private final ReactiveTaskService taskService;
+
+    /**
+     * Retrieves all active tasks. Clients sending {@code Accept: application/x-ndjson}
+     * receive the tasks as they are read from the database.
+     *
+     * @return A {@link Flux} of {@link TaskRes} objects representing all active tasks.
+     */
+    @GetMapping(APIEndPoint.TASK_V1)
+    public Flux<TaskRes> getAllTasks() {
+        return taskService.getAllTasks();
+    }
+
+    /**
+     * Retrieves a task by its ID.
+     *
+     * @param id The ID of the task to retrieve.
+     * @return A {@link Mono} of the {@link TaskRes} representing the task.
+     */
+    @GetMapping(APIEndPoint.TASK_V1 + "/{id}")
+    public Mono<TaskRes> getTaskById(@PathVariable String id) {
+        return taskService.getTaskById(id);
+    }
+
+    /**
+     * Retrieves all tasks associated with a specific user.
+     *
+     * @param userId The ID of the user.
+     * @return A {@link Flux} of {@link TaskRes} objects representing the user's tasks.
+     */
+    @GetMapping(APIEndPoint.TASK_V1 + "/user/{userId}")
+    public Flux<TaskRes> getTasksByUserId(@PathVariable String userId) {
+        return taskService.getAllTasksByUserId(userId);
+    }
+
+    /**
+     * Retrieves a task by its ID and associated user ID.
+     *
+     * @param id The ID of the task.
+     * @param userId The ID of the user.
+     * @return A {@link Mono} of the {@link TaskRes} representing the task.
+     */
+    @GetMapping(APIEndPoint.TASK_V1 + "/{id}/user/{userId}")
+    public Mono<TaskRes> getTaskByIdAndUserId(
+            @PathVariable String id,
+            @PathVariable String userId) {
+        return taskService.getTaskByIdAndUserId(id, userId);
+    }
+
+    /**
+     * Searches tasks by title prefix with pagination and sorting.
+     *
+     * @param title The title prefix to search for.
+     * @param page The page number for pagination.
+     * @param size The number of items per page.
+     * @param sortBy The field to sort by.
+     * @param sortDir The direction of sorting (ASC or DESC).
+     * @return A {@link Mono} of the {@link PageRes} containing the filtered and paginated tasks.
+     */
+    @GetMapping(APIEndPoint.TASK_V1 + "/search")
+    public Mono<PageRes<TaskRes>> searchAndFilterTasks(
+            @RequestParam String title,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "title") String sortBy,
+            @RequestParam(defaultValue = "asc") String sortDir) {
+        return taskService.searchAndFilterTasks(title, null, page, size, sortBy, sortDir);
+    }
+
+    /**
+     * Searches tasks of a user by title prefix with pagination and sorting.
+     *
+     * @param userId The ID of the user.
+     * @param title The title prefix to search for.
+     * @param page The page number for pagination.
+     * @param size The number of items per page.
+     * @param sortBy The field to sort by.
+     * @param sortDir The direction of sorting (ASC or DESC).
+     * @return A {@link Mono} of the {@link PageRes} containing the filtered and paginated tasks.
+     */
+    @GetMapping(APIEndPoint.TASK_V1 + "/user/{userId}/search")
+    public Mono<PageRes<TaskRes>> searchAndFilterTasksByUserId(
+            @PathVariable String userId,
+            @RequestParam String title,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "title") String sortBy,
+            @RequestParam(defaultValue = "asc") String sortDir) {
+        return taskService.searchAndFilterTasks(title, userId, page, size, sortBy, sortDir);
+    }
+
+    /**
+     * Creates a new task.
+     *
+     * @param taskReq The task creation request containing task details.
+     * @return A {@link Mono} of the {@link TaskRes} representing the created task.
+     */
+    @PreAuthorize("hasRole('LEADER')")
+    @PostMapping(APIEndPoint.TASK_V1)
+    @ResponseStatus(HttpStatus.CREATED)
+    public Mono<TaskRes> addTask(@Valid @RequestBody TaskReq taskReq) {
+        return taskService.createTask(taskReq);
+    }
+
+    /**
+     * Updates an existing task.
+     *
+     * @param id The ID of the task to update.
+     * @param taskReq The task update request containing new task details.
+     * @return A {@link Mono} of the {@link TaskRes} representing the updated task.
+     */
+    @PreAuthorize("hasRole('LEADER')")
+    @PutMapping(APIEndPoint.TASK_V1 + "/{id}")
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    public Mono<TaskRes> updateTask(@Valid @RequestBody TaskReq taskReq, @PathVariable String id) {
+        return taskService.updateTask(id, taskReq);
+    }
+
+    /**
+     * Deletes a task by its ID (soft delete).
+     *
+     * @param id The ID of the task to delete.
+     * @return A {@link Mono} completing once the task is deleted.
+     */
+    @PreAuthorize("hasRole('LEADER')")
+    @DeleteMapping(APIEndPoint.TASK_V1 + "/{id}")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public Mono<Void> deleteTask(@PathVariable String id) {
+        return taskService.deleteTaskById(id);
+    }
+}
@@ -0,0 +1,97 @@
+package com.test.todoapp.reactive.exception;
+
+import com.test.todoapp.exception.BadRequestException;
+import com.test.todoapp.exception.ConflictException;
+import com.test.todoapp.exception.ErrorCode;
+import com.test.todoapp.exception.ExceptionRes;
+import com.test.todoapp.exception.NotFoundException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.support.DefaultMessageSourceResolvable;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.bind.support.WebExchangeBindException;
+
+import java.time.Instant;
+import java.util.stream.Collectors;
+
+/**
+ * Reactive counterpart of {@code GlobalException} for the errors raised by the task endpoints.
+ */
+@RestControllerAdvice
+@Slf4j
+public class ReactiveGlobalException {
+
+    /**
+     * Handles errors related to resources not being found (e.g. NotFoundException).
+     *
+     * @param request - ServerHttpRequest containing information about the request.
+     * @param ex - Exception thrown.
+     * @return ExceptionRes - Object containing error information.
+     */
+    @ExceptionHandler(NotFoundException.class)
+    @ResponseStatus(HttpStatus.NOT_FOUND)
+    public ExceptionRes handleNotFoundErrors(ServerHttpRequest request, NotFoundException ex) {
+        return buildResponse(ex.getErrCode(), ex.getErrMsg(), HttpStatus.NOT_FOUND, request);
+    }
+
+    /**
+     * Handles invalid requests (e.g. BadRequestException).
+     *
+     * @param request - ServerHttpRequest containing information about the request.
+     * @param ex - Exception thrown.
+     * @return ExceptionRes - Object containing error information.
+     */
+    @ExceptionHandler(BadRequestException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public ExceptionRes handleBadRequestErrors(ServerHttpRequest request, BadRequestException ex) {
+        return buildResponse(ex.getErrCode(), ex.getErrMsg(), HttpStatus.BAD_REQUEST, request);
+    }
+
+    /**
+     * Handles updates rejected because the resource changed since it was read (e.g. ConflictException).
+     *
+     * @param request - ServerHttpRequest containing information about the request.
+     * @param ex - Exception thrown.
+     * @return ExceptionRes - Object containing error information.
+     */
+    @ExceptionHandler(ConflictException.class)
+    @ResponseStatus(HttpStatus.CONFLICT)
+    public ExceptionRes handleConflictErrors(ServerHttpRequest request, ConflictException ex) {
+        log.warn("Stale update rejected", ex);
+        return buildResponse(ex.getErrCode(), ex.getErrMsg(), HttpStatus.CONFLICT, request);
+    }
+
+    /**
+     * Handles request body validation errors.
+     *
+     * @param request - ServerHttpRequest containing information about the request.
+     * @param ex - Exception thrown.
+     * @return ExceptionRes - Object containing error information.
+     */
+    @ExceptionHandler(WebExchangeBindException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public ExceptionRes handleValidationErrors(ServerHttpRequest request, WebExchangeBindException ex) {
+        log.warn("Method argument not valid", ex);
+        final String message = ex.getFieldErrors()
+                .stream()
+                .map(DefaultMessageSourceResolvable::getDefaultMessage)
+                .collect(Collectors.joining(", "));
+        return buildResponse(ErrorCode.CONSTRAINT_VIOLATION.getErrCode(), message,
+                HttpStatus.BAD_REQUEST, request);
+    }
+
+    private ExceptionRes buildResponse(String errCode, String message,
+                                       HttpStatus status, ServerHttpRequest request) {
+        return new ExceptionRes(
+                errCode,
+                message,
+                status.value(),
+                request.getURI().toString(),
+                request.getMethod().name(),
+                Instant.now()
+        );
+    }
+}
@@ -0,0 +1,24 @@
+package com.test.todoapp.reactive.repository;
+
+import com.test.todoapp.model.entity.Task;
+import org.springframework.data.mongodb.repository.Query;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Repository
+public interface ReactiveTaskRepository extends ReactiveMongoRepository<Task, String> {
+
+    @Query("{'objStatus': 'ACTIVE'}")
+    Flux<Task> findAllActive();
+
+    @Query("{'_id': ?0, 'objStatus': 'ACTIVE'}")
+    Mono<Task> findTaskActiveById(String id);
+
+    @Query("{'userId': ?0,'objStatus': 'ACTIVE'}")
+    Flux<Task> findAllActiveByUserId(String userId);
+
+    @Query("{'_id': ?0, 'userId': ?1, 'objStatus': 'ACTIVE'}")
+    Mono<Task> findTaskActiveByIdAndUserId(String id, String userId);
+}
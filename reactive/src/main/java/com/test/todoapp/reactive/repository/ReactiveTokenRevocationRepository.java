@@ -0,0 +1,16 @@
+package com.test.todoapp.reactive.repository;
+
+import com.test.todoapp.model.entity.TokenRevocation;
+import org.springframework.data.mongodb.repository.Query;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+
+import java.time.Instant;
+
+@Repository
+public interface ReactiveTokenRevocationRepository extends ReactiveMongoRepository<TokenRevocation, String> {
+
+    @Query(value = "{'createdAt': {$gt: ?0}}", sort = "{'createdAt': 1}")
+    Flux<TokenRevocation> findAllCreatedAfter(Instant createdAfter);
+}
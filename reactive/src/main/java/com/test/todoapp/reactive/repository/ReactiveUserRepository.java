@@ -0,0 +1,18 @@
+package com.test.todoapp.reactive.repository;
+
+import com.test.todoapp.model.entity.User;
+import org.springframework.data.mongodb.repository.Query;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+@Repository
+public interface ReactiveUserRepository extends ReactiveMongoRepository<User, String> {
+
+    @Query(value = "{'email': ?0, 'objStatus': 'ACTIVE'}",
+            fields = "{'email': 1, 'password': 1, 'role': 1, 'objStatus': 1}")
+    Mono<User> findActivePrincipalByEmail(String email);
+
+    @Query(value = "{'_id': ?0, 'objStatus': 'ACTIVE'}", exists = true)
+    Mono<Boolean> existsActiveById(String id);
+}
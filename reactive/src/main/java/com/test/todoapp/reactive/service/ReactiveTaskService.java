@@ -0,0 +1,28 @@
+package com.test.todoapp.reactive.service;
+
+import com.test.todoapp.dtos.PageRes;
+import com.test.todoapp.dtos.task.TaskReq;
+import com.test.todoapp.dtos.task.TaskRes;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public interface ReactiveTaskService {
+
+    Flux<TaskRes> getAllTasks();
+
+    Mono<TaskRes> getTaskById(String id);
+
+    Flux<TaskRes> getAllTasksByUserId(String userId);
+
+    Mono<TaskRes> getTaskByIdAndUserId(String id, String userId);
+
+    Mono<PageRes<TaskRes>> searchAndFilterTasks(String title, String userId,
+                                                int page, int size,
+                                                String sortBy, String sortDir);
+
+    Mono<TaskRes> createTask(TaskReq req);
+
+    Mono<TaskRes> updateTask(String id, TaskReq req);
+
+    Mono<Void> deleteTaskById(String id);
+}
@@ -0,0 +1,271 @@
+package com.test.todoapp.reactive.service.impl;
+
+import com.mongodb.client.result.UpdateResult;
+import com.test.todoapp.converter.TaskConverter;
+import com.test.todoapp.dtos.PageRes;
+import com.test.todoapp.dtos.task.TaskReq;
+import com.test.todoapp.dtos.task.TaskRes;
+import com.test.todoapp.exception.ConflictException;
+import com.test.todoapp.exception.ErrorCode;
+import com.test.todoapp.exception.NotFoundException;
+import com.test.todoapp.model.entity.Task;
+import com.test.todoapp.model.entity.TaskRevision;
+import com.test.todoapp.model.enums.ObjStatus;
+import com.test.todoapp.reactive.repository.ReactiveTaskRepository;
+import com.test.todoapp.reactive.repository.ReactiveUserRepository;
+import com.test.todoapp.reactive.service.ReactiveTaskService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.ReactiveBulkOperations;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+/**
+ * Non-blocking implementation of the {@link ReactiveTaskService} interface.
+ * It mirrors the servlet {@code TaskServiceImpl} and shares its DTOs and {@link TaskConverter}.
+ */
+@Service
+@RequiredArgsConstructor
+public class ReactiveTaskServiceImpl implements ReactiveTaskService {
+
+    private final ReactiveTaskRepository taskRepository;
+
+    private final ReactiveUserRepository userRepository;
+
+    private final ReactiveMongoTemplate mongoTemplate;
+
+    /**
+     * Retrieves all active tasks.
+     *
+     * @return A {@link Flux} of {@link TaskRes} objects representing all active tasks.
+     */
+    @Override
+    public Flux<TaskRes> getAllTasks() {
+        return taskRepository.findAllActive()
+                .map(TaskConverter::convertToDto);
+    }
+
+    /**
+     * Retrieves a task by its ID.
+     *
+     * @param id The ID of the task to retrieve.
+     * @return A {@link Mono} of the {@link TaskRes}, failing with {@link NotFoundException}
+     * if the task is not found.
+     */
+    @Override
+    public Mono<TaskRes> getTaskById(String id) {
+        return findTaskById(id)
+                .map(TaskConverter::convertToDto);
+    }
+
+    /**
+     * Retrieves all active tasks associated with a specific user.
+     *
+     * @param userId The ID of the user.
+     * @return A {@link Flux} of {@link TaskRes} objects representing the user's tasks.
+     */
+    @Override
+    public Flux<TaskRes> getAllTasksByUserId(String userId) {
+        return taskRepository.findAllActiveByUserId(userId)
+                .map(TaskConverter::convertToDto);
+    }
+
+    /**
+     * Retrieves a task by its ID and associated user ID.
+     *
+     * @param id The ID of the task.
+     * @param userId The ID of the user.
+     * @return A {@link Mono} of the {@link TaskRes}, failing with {@link NotFoundException}
+     * if the task is not found.
+     */
+    @Override
+    public Mono<TaskRes> getTaskByIdAndUserId(String id, String userId) {
+        return taskRepository.findTaskActiveByIdAndUserId(id, userId)
+                .switchIfEmpty(Mono.error(() -> new NotFoundException(
+                        ErrorCode.TASK_NOT_FOUND.getErrMessage())))
+                .map(TaskConverter::convertToDto);
+    }
+
+    /**
+     * Searches tasks by title prefix with pagination and sorting.
+     * The page and the total count are queried concurrently.
+     *
+     * @param title The title prefix to search for.
+     * @param userId The ID of the user, or null to search all users.
+     * @param page The page number for pagination.
+     * @param size The number of items per page.
+     * @param sortBy The field to sort by.
+     * @param sortDir The direction of sorting (ASC or DESC).
+     * @return A {@link Mono} of the {@link PageRes} containing the filtered and paginated tasks.
+     */
+    @Override
+    public Mono<PageRes<TaskRes>> searchAndFilterTasks(String title, String userId,
+                                                       int page, int size,
+                                                       String sortBy, String sortDir) {
+        final PageRequest pageRequest = setupPageRequest(page, size, sortBy, sortDir);
+
+        final Mono<Set<TaskRes>> content = mongoTemplate
+                .find(searchQuery(title, userId).with(pageRequest), Task.class)
+                .map(TaskConverter::convertToDto)
+                .collect(Collectors.toSet());
+
+        return Mono.zip(content, mongoTemplate.count(searchQuery(title, userId), Task.class))
+                .map(result -> {
+                    final long total = result.getT2();
+                    final int totalPages = (int) Math.ceil((double) total / size);
+                    return new PageRes<>(
+                            result.getT1(),
+                            page,
+                            size,
+                            total,
+                            totalPages,
+                            page + 1 >= totalPages
+                    );
+                });
+    }
+
+    /**
+     * Creates a new task for a user.
+     *
+     * @param req The task creation request containing task details.
+     * @return A {@link Mono} of the created {@link TaskRes}.
+     */
+    @Override
+    public Mono<TaskRes> createTask(TaskReq req) {
+        return ensureUserExists(req.getUserId())
+                .then(Mono.defer(() -> taskRepository.save(TaskConverter.convertToEntity(req))))
+                .flatMap(task -> incrementRevisions(List.of(task.getUserId())).thenReturn(task))
+                .map(TaskConverter::convertToDto);
+    }
+
+    /**
+     * Updates an existing task in place with a single findAndModify; the task keeps its ID.
+     * When the request carries the version the client last read, the update is rejected
+     * if the task was modified since.
+     *
+     * @param id The ID of the task to update.
+     * @param req The task update request containing new task details.
+     * @return A {@link Mono} of the updated {@link TaskRes}, failing with
+     * {@link ConflictException} if the task version differs from the requested one.
+     */
+    @Override
+    public Mono<TaskRes> updateTask(String id, TaskReq req) {
+        final Task changes = TaskConverter.convertToEntity(req);
+        final LocalDateTime updatedAt = LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+        final Query query = new Query(where("id").is(id).and("objStatus").is(ObjStatus.ACTIVE));
+        if (req.getVersion() != null) {
+            query.addCriteria(where("version").is(req.getVersion()));
+        }
+
+        return ensureUserExists(req.getUserId())
+                .then(Mono.defer(() -> mongoTemplate.findAndModify(
+                        query, TaskConverter.convertToUpdate(changes, updatedAt), Task.class)))
+                .switchIfEmpty(Mono.defer(() -> updateRejected(id)))
+                .flatMap(previousTask -> incrementRevisions(
+                        List.of(previousTask.getUserId(), changes.getUserId())).thenReturn(previousTask))
+                .map(previousTask -> TaskConverter.convertToDto(
+                        TaskConverter.convertToUpdatedEntity(previousTask, changes, updatedAt)));
+    }
+
+    /**
+     * Deletes a task by its ID (soft delete).
+     *
+     * @param id The ID of the task to delete.
+     * @return A {@link Mono} completing once the task is deleted.
+     */
+    @Override
+    public Mono<Void> deleteTaskById(String id) {
+        return findTaskById(id)
+                .flatMap(this::deleteSoftTask)
+                .then();
+    }
+
+    private Mono<UpdateResult> deleteSoftTask(Task task) {
+        return mongoTemplate.updateFirst(
+                new Query(where("id").is(task.getId()).and("objStatus").is(ObjStatus.ACTIVE)),
+                new Update()
+                        .set("objStatus", ObjStatus.DELETED)
+                        .set("updatedAt", LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS))
+                        .inc("version", 1),
+                Task.class)
+                .flatMap(result -> incrementRevisions(List.of(task.getUserId())).thenReturn(result));
+    }
+
+    /**
+     * Increments the task revisions of the given users and of all tasks, from which the
+     * servlet application derives the ETags of its task listings.
+     *
+     * @param userIds The IDs of the users whose tasks were written.
+     * @return A {@link Mono} completing once the revisions are incremented.
+     */
+    private Mono<Void> incrementRevisions(Collection<String> userIds) {
+        final ReactiveBulkOperations bulkOps =
+                mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, TaskRevision.class);
+        Stream.concat(userIds.stream(), Stream.of(TaskRevision.ALL)).distinct()
+                .forEach(id -> bulkOps.upsert(new Query(where("id").is(id)),
+                        new Update().inc("revision", 1)));
+        return bulkOps.execute().then();
+    }
+
+    private Mono<Task> updateRejected(String id) {
+        return taskRepository.findTaskActiveById(id)
+                .flatMap(task -> Mono.<Task>error(new ConflictException(
+                        ErrorCode.TASK_VERSION_CONFLICT.getErrCode(),
+                        ErrorCode.TASK_VERSION_CONFLICT.getErrMessage())))
+                .switchIfEmpty(Mono.error(() -> new NotFoundException(
+                        ErrorCode.TASK_NOT_FOUND.getErrMessage())));
+    }
+
+    private Mono<Task> findTaskById(String id) {
+        return taskRepository.findTaskActiveById(id)
+                .switchIfEmpty(Mono.error(() -> new NotFoundException(
+                        ErrorCode.TASK_NOT_FOUND.getErrMessage())));
+    }
+
+    private Mono<Void> ensureUserExists(String id) {
+        return userRepository.existsActiveById(id)
+                .flatMap(exists -> exists ?
+                        Mono.<Void>empty() :
+                        Mono.error(new NotFoundException(
+                                ErrorCode.USER_NOT_FOUND.getErrMessage())));
+    }
+
+    private Query searchQuery(String title, String userId) {
+        final String key = TaskConverter.convertToTitleKey(title);
+        final String upperBound = TaskConverter.convertToTitleKeyUpperBound(key);
+        final Criteria criteria = where("titleKey").gte(key);
+        final Query query = new Query(upperBound == null ? criteria : criteria.lt(upperBound))
+                .addCriteria(where("objStatus").is(ObjStatus.ACTIVE));
+        if (userId != null) {
+            query.addCriteria(where("userId").is(userId));
+        }
+        return query;
+    }
+
+    private PageRequest setupPageRequest(int page, int size,
+                                         String sortBy, String sortDir) {
+        final Sort sort = sortDir.equalsIgnoreCase(
+                Sort.Direction.ASC.name()) ?
+                Sort.by(sortBy).ascending() :
+                Sort.by(sortBy).descending();
+
+        return PageRequest.of(page, size, sort);
+    }
+}
@@ -0,0 +1,54 @@
+package com.test.todoapp.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.test.todoapp.model.enums.TaskSearchMode;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+/**
+ * Short-lived cache of the number of tasks matching a title search, keyed by the search
+ * filter and the version of the searched tasks, i.e. their ETag. Writers do not evict it:
+ * a write changes the version, so a count is never served with the ETag of newer data,
+ * while every page of a search over unchanged data shares one count.
+ */
+@Component
+public class SearchCountCache {
+
+    private final Cache<Key, Long> cache;
+
+    public SearchCountCache(
+            @Value("${application.cache.search-counts.max-size:10000}") long maxSize,
+            @Value("${application.cache.search-counts.ttl:10000}") long ttl,
+            MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofMillis(ttl))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "searchCounts");
+    }
+
+    /**
+     * Returns the cached number of tasks matching a search, counting them on a miss.
+     *
+     * @param title The title searched for.
+     * @param userId The ID of the user, or null for all users.
+     * @param mode The search mode.
+     * @param version The current version of the searched tasks, or null if there are none.
+     * @param counter Counts the matching tasks in the database.
+     * @return The number of matching tasks.
+     */
+    public long get(String title, String userId, TaskSearchMode mode, String version,
+                    LongSupplier counter) {
+        return cache.get(new Key(title, userId, mode, version), key -> counter.getAsLong());
+    }
+
+    private record Key(String title, String userId, TaskSearchMode mode, String version) {
+    }
+}
@@ -0,0 +1,104 @@
+package com.test.todoapp.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.test.todoapp.dtos.task.TaskRes;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Bounded cache of active tasks by ID, including short-lived negative entries for IDs that
+ * match no active task, so repeated lookups of unknown or deleted tasks do not reach the
+ * database. Writers evict the IDs they change; the TTLs bound staleness for writes made by
+ * other instances. Hit ratios are published as {@code cache.*} metrics named tasksById.
+ */
+@Component
+public class TaskByIdCache {
+
+    private final Cache<String, Optional<TaskRes>> cache;
+
+    private final Counter negativeHitCounter;
+
+    public TaskByIdCache(
+            @Value("${application.cache.tasks-by-id.max-size:50000}") long maxSize,
+            @Value("${application.cache.tasks-by-id.ttl:60000}") long ttl,
+            @Value("${application.cache.tasks-by-id.negative-ttl:5000}") long negativeTtl,
+            MeterRegistry meterRegistry) {
+        final long ttlNanos = TimeUnit.MILLISECONDS.toNanos(ttl);
+        final long negativeTtlNanos = TimeUnit.MILLISECONDS.toNanos(negativeTtl);
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new Expiry<String, Optional<TaskRes>>() {
+                    @Override
+                    public long expireAfterCreate(String id, Optional<TaskRes> task, long currentTime) {
+                        return task.isPresent() ? ttlNanos : negativeTtlNanos;
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String id, Optional<TaskRes> task,
+                                                  long currentTime, long currentDuration) {
+                        return expireAfterCreate(id, task, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String id, Optional<TaskRes> task,
+                                                long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+        this.negativeHitCounter = Counter.builder("cache.negative.hits")
+                .description("Lookups answered by a cached negative entry")
+                .tag("cache", "tasksById")
+                .register(meterRegistry);
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "tasksById");
+    }
+
+    /**
+     * Returns the cached active task with an ID, loading it on a miss. An absent task is
+     * cached too, for the shorter negative TTL.
+     *
+     * @param id The ID of the task.
+     * @param loader Loads the active task from the database.
+     * @return The task, or empty if no active task has this ID.
+     */
+    public Optional<TaskRes> get(String id, Function<String, Optional<TaskRes>> loader) {
+        final boolean[] loaded = {false};
+        final Optional<TaskRes> task = cache.get(id, key -> {
+            loaded[0] = true;
+            return loader.apply(key);
+        });
+        if (task.isEmpty() && !loaded[0]) {
+            negativeHitCounter.increment();
+        }
+        return task;
+    }
+
+    /**
+     * Removes the cached entry of a task after it changed.
+     *
+     * @param id The ID of the task.
+     */
+    public void evict(String id) {
+        cache.invalidate(id);
+    }
+
+    /**
+     * Removes the cached entries of several tasks.
+     *
+     * @param ids The IDs of the tasks.
+     */
+    public void evictAll(Collection<String> ids) {
+        cache.invalidateAll(ids);
+    }
+}
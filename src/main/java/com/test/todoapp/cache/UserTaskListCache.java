@@ -0,0 +1,68 @@
+package com.test.todoapp.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.test.todoapp.dtos.task.TaskListRes;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.function.Function;
+
+/**
+ * Bounded cache of the active task list of each user and its ETag, ready to serialize.
+ * The cache is weighed by number of tasks, so a few users with large lists cannot exhaust
+ * the heap. Writers evict the lists they change; the TTL bounds staleness for writes made
+ * by other instances.
+ */
+@Component
+public class UserTaskListCache {
+
+    private final Cache<String, TaskListRes> cache;
+
+    public UserTaskListCache(
+            @Value("${application.cache.user-tasks.max-tasks:100000}") long maxTasks,
+            @Value("${application.cache.user-tasks.ttl:60000}") long ttl,
+            MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxTasks)
+                .<String, TaskListRes>weigher((userId, taskList) -> Math.max(1, taskList.tasks().size()))
+                .expireAfterWrite(Duration.ofMillis(ttl))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "userTasks");
+    }
+
+    /**
+     * Returns the cached task list of a user, loading it on a miss. An eviction racing with
+     * the load waits for it and then discards the loaded list.
+     *
+     * @param userId The ID of the user.
+     * @param loader Loads the unmodifiable task list of the user from the database.
+     * @return The task list of the user.
+     */
+    public TaskListRes get(String userId, Function<String, TaskListRes> loader) {
+        return cache.get(userId, loader);
+    }
+
+    /**
+     * Removes the cached task list of a user after one of its tasks changed.
+     *
+     * @param userId The ID of the user.
+     */
+    public void evict(String userId) {
+        cache.invalidate(userId);
+    }
+
+    /**
+     * Removes the cached task lists of several users.
+     *
+     * @param userIds The IDs of the users.
+     */
+    public void evictAll(Collection<String> userIds) {
+        cache.invalidateAll(userIds);
+    }
+}
@@ -1,15 +1,17 @@
 package com.test.todoapp.config;
 
+import com.test.todoapp.config.security.BoundedPasswordEncoder;
+import com.test.todoapp.config.security.CachingUserDetailsService;
 import com.test.todoapp.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.AuthenticationProvider;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
-import org.springframework.security.core.userdetails.UserDetailsService;
-import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
@@ -19,9 +21,29 @@ public class ApplicationConfig {
 
     private final UserRepository userRepository;
 
+    private final MeterRegistry meterRegistry;
+
+    @Value("${application.security.principal-cache.max-size:10000}")
+    private long principalCacheMaxSize;
+
+    @Value("${application.security.principal-cache.ttl:300000}")
+    private long principalCacheTtl;
+
+    @Value("${application.security.password-hashing.threads:0}")
+    private int passwordHashingThreads;
+
+    @Value("${application.security.password-hashing.queue-capacity:200}")
+    private int passwordHashingQueueCapacity;
+
+    @Value("${application.security.password-hashing.timeout:5000}")
+    private long passwordHashingTimeout;
+
     @Bean
     public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+        final int threads = passwordHashingThreads > 0 ?
+                passwordHashingThreads : Runtime.getRuntime().availableProcessors();
+        return new BoundedPasswordEncoder(new BCryptPasswordEncoder(), threads,
+                passwordHashingQueueCapacity, passwordHashingTimeout, meterRegistry);
     }
 
     @Bean
@@ -33,9 +55,9 @@ public class ApplicationConfig {
     }
 
     @Bean
-    public UserDetailsService getUserDetailsService() {
-        return username -> userRepository.findActiveByEmail(username)
-                .orElseThrow(() -> new UsernameNotFoundException("Email not found"));
+    public CachingUserDetailsService getUserDetailsService() {
+        return new CachingUserDetailsService(
+                userRepository, principalCacheMaxSize, principalCacheTtl);
     }
 
     @Bean
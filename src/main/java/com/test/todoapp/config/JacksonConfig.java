@@ -0,0 +1,28 @@
+package com.test.todoapp.config;
+
+import com.fasterxml.jackson.annotation.JsonFilter;
+import com.test.todoapp.converter.TaskFieldsConverter;
+import com.test.todoapp.dtos.task.TaskRes;
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Lets the task endpoints write sparse fieldsets. {@link TaskRes} is bound to the
+ * {@link TaskFieldsConverter#FILTER_ID} filter through a mix-in, so the shared DTO stays
+ * free of Jackson annotations, and every other write falls back to serializing all fields.
+ */
+@Configuration
+public class JacksonConfig {
+
+    @Bean
+    public Jackson2ObjectMapperBuilderCustomizer taskFieldsFilterCustomizer() {
+        return builder -> builder
+                .mixIn(TaskRes.class, TaskFieldsMixIn.class)
+                .filters(TaskFieldsConverter.convertToFilters(null));
+    }
+
+    @JsonFilter(TaskFieldsConverter.FILTER_ID)
+    private interface TaskFieldsMixIn {
+    }
+}
@@ -0,0 +1,65 @@
+package com.test.todoapp.config;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.stream.Collectors;
+
+/**
+ * Logs every virtual thread that stays pinned to its carrier thread longer than the
+ * configured threshold, e.g. when blocking I/O runs inside a synchronized block.
+ * Only active with the {@code virtual-threads} profile.
+ */
+@Slf4j
+@Component
+@Profile("virtual-threads")
+public class VirtualThreadPinningMonitor {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+    @Value("${application.virtual-threads.pinning-threshold:20}")
+    private long pinningThreshold;
+
+    private RecordingStream recordingStream;
+
+    @PostConstruct
+    void start() {
+        recordingStream = new RecordingStream();
+        recordingStream.enable(PINNED_EVENT)
+                .withThreshold(Duration.ofMillis(pinningThreshold))
+                .withStackTrace();
+        recordingStream.onEvent(PINNED_EVENT, this::logPinnedThread);
+        recordingStream.startAsync();
+    }
+
+    @PreDestroy
+    void stop() {
+        if (recordingStream != null) {
+            recordingStream.close();
+        }
+    }
+
+    private void logPinnedThread(RecordedEvent event) {
+        final String stackTrace = event.getStackTrace() == null ? "" :
+                event.getStackTrace().getFrames().stream()
+                        .map(this::formatFrame)
+                        .collect(Collectors.joining(System.lineSeparator() + "\tat ",
+                                System.lineSeparator() + "\tat ", ""));
+
+        log.warn("Virtual thread pinned to its carrier for {} ms{}",
+                event.getDuration().toMillis(), stackTrace);
+    }
+
+    private String formatFrame(RecordedFrame frame) {
+        return frame.getMethod().getType().getName() + "."
+                + frame.getMethod().getName() + ":" + frame.getLineNumber();
+    }
+}
@@ -0,0 +1,63 @@
+package com.test.todoapp.config.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.test.todoapp.repository.UserRepository;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+
+import java.time.Duration;
+
+/**
+ * {@link UserDetailsService} that caches lightweight {@link UserPrincipal} projections
+ * so that authenticated requests do not load the full user document.
+ */
+public class CachingUserDetailsService implements UserDetailsService {
+
+    private final UserRepository userRepository;
+
+    private final Cache<String, UserPrincipal> cache;
+
+    public CachingUserDetailsService(UserRepository userRepository, long maxSize, long ttl) {
+        this.userRepository = userRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofMillis(ttl))
+                .build();
+    }
+
+    /**
+     * Loads the principal of an active user, from the cache when possible.
+     *
+     * @param username The email of the user.
+     * @return The {@link UserPrincipal} of the user.
+     * @throws UsernameNotFoundException If no active user has this email.
+     */
+    @Override
+    public UserDetails loadUserByUsername(String username) {
+        return cache.get(username, this::loadPrincipal);
+    }
+
+    /**
+     * Removes the cached principal of a user, e.g. after its status, role or password changed.
+     *
+     * @param email The email of the user.
+     */
+    public void evict(String email) {
+        cache.invalidate(email);
+    }
+
+    /**
+     * Removes every cached principal.
+     */
+    public void evictAll() {
+        cache.invalidateAll();
+    }
+
+    private UserPrincipal loadPrincipal(String email) {
+        return userRepository.findActivePrincipalByEmail(email)
+                .map(UserPrincipal::from)
+                .orElseThrow(() -> new UsernameNotFoundException("Email not found"));
+    }
+}
@@ -0,0 +1,89 @@
+package com.test.todoapp.config.security;
+
+import io.jsonwebtoken.Claims;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Immutable view of the claims carried by a verified JWT.
+ *
+ * @param id The token ID ({@code jti}), or null for tokens issued without one.
+ * @param subject The subject (user email) of the token.
+ * @param roles The authority names embedded in the {@code roles} claim.
+ * @param issuedAt The instant the token was issued, to the millisecond when it carries the
+ *                 {@value #ISSUED_AT_MILLIS} claim, otherwise to the second.
+ * @param expiration The instant the token expires.
+ */
+public record JwtClaims(
+        String id,
+        String subject,
+        List<String> roles,
+        Instant issuedAt,
+        Instant expiration
+) {
+
+    public static final String ISSUED_AT_MILLIS = "iat_ms";
+
+    /**
+     * Builds a claims view from the parsed JWT body.
+     *
+     * @param claims The verified claims returned by the JWT parser.
+     * @return The immutable {@link JwtClaims} view.
+     */
+    public static JwtClaims from(Claims claims) {
+        return new JwtClaims(
+                claims.getId(),
+                claims.getSubject(),
+                extractRoles(claims.get("roles")),
+                extractIssuedAt(claims),
+                claims.getExpiration() == null ? null : claims.getExpiration().toInstant()
+        );
+    }
+
+    /**
+     * Checks whether the token has expired at the given instant.
+     *
+     * @param now The instant to compare against.
+     * @return true if the token is expired, false otherwise.
+     */
+    public boolean isExpired(Instant now) {
+        return expiration != null && expiration.isBefore(now);
+    }
+
+    /**
+     * Reads the issue instant from the {@value #ISSUED_AT_MILLIS} claim, falling back to
+     * the standard {@code iat} claim, which only holds seconds.
+     *
+     * @param claims The verified claims returned by the JWT parser.
+     * @return The issue instant, or null if the token carries none.
+     */
+    private static Instant extractIssuedAt(Claims claims) {
+        if (claims.get(ISSUED_AT_MILLIS) instanceof Number millis) {
+            return Instant.ofEpochMilli(millis.longValue());
+        }
+        return claims.getIssuedAt() == null ? null : claims.getIssuedAt().toInstant();
+    }
+
+    /**
+     * Reads the authority names from the {@code roles} claim, which is serialized
+     * either as plain strings or as {@code {"authority": "..."}} objects.
+     *
+     * @param rolesClaim The raw value of the {@code roles} claim.
+     * @return The list of authority names.
+     */
+    private static List<String> extractRoles(Object rolesClaim) {
+        if (!(rolesClaim instanceof Collection<?> roles)) {
+            return List.of();
+        }
+
+        return roles.stream()
+                .map(role -> role instanceof Map<?, ?> map ? map.get("authority") : role)
+                .filter(Objects::nonNull)
+                .map(Object::toString)
+                .toList();
+    }
+}
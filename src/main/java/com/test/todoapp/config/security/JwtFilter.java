@@ -6,7 +6,10 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.constraints.NotNull;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
@@ -15,6 +18,8 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.time.Instant;
+import java.util.Collection;
 
 @Component
 @RequiredArgsConstructor
@@ -24,8 +29,16 @@ public class JwtFilter extends OncePerRequestFilter {
 
     private final UserDetailsService userDetailsService;
 
+    private final TokenRevocationService tokenRevocationService;
+
+    @Value("${application.security.jwt.claims-only:false}")
+    private boolean claimsOnly;
+
     /**
      * Filters incoming requests to validate JWT tokens and set the authentication context.
+     * In claims-only mode the authentication is built from the subject and roles signed into
+     * the token, without loading the user. In both modes the token is checked against the
+     * in-memory revocation list.
      *
      * @param req  The incoming HTTP request.
      * @param res  The HTTP response.
@@ -53,27 +66,49 @@ public class JwtFilter extends OncePerRequestFilter {
         }
 
         final String jwt = authHeader.substring(7);
-        final String emailUser = jwtUtil.extractUsername(jwt);
+        final JwtClaims claims = jwtUtil.parseToken(jwt);
+        final String emailUser = claims.subject();
 
 
         if (emailUser != null && SecurityContextHolder.getContext().getAuthentication() == null) {
 
-            UserDetails userDetails = userDetailsService.loadUserByUsername(emailUser);
-
-            if (jwtUtil.isTokenValid(jwt, userDetails)) {
-                UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
-                        userDetails,
-                        null,
-                        userDetails.getAuthorities()
-                );
-
-                authToken.setDetails(
-                        new WebAuthenticationDetailsSource().buildDetails(req)
-                );
-
-                SecurityContextHolder.getContext().setAuthentication(authToken);
+            if (claimsOnly) {
+                if (!claims.isExpired(Instant.now()) && !tokenRevocationService.isRevoked(claims)) {
+                    authenticate(req, emailUser, claims.roles().stream()
+                            .map(SimpleGrantedAuthority::new)
+                            .toList());
+                }
+            } else {
+                UserDetails userDetails = userDetailsService.loadUserByUsername(emailUser);
+
+                if (jwtUtil.isTokenValid(claims, userDetails)
+                        && !tokenRevocationService.isRevoked(claims)) {
+                    authenticate(req, userDetails, userDetails.getAuthorities());
+                }
             }
         }
         filterChain.doFilter(req, res);
     }
+
+    /**
+     * Sets the authenticated principal of the current request.
+     *
+     * @param req The incoming HTTP request.
+     * @param principal The user details, or the subject in claims-only mode.
+     * @param authorities The granted authorities of the principal.
+     */
+    private void authenticate(HttpServletRequest req, Object principal,
+                              Collection<? extends GrantedAuthority> authorities) {
+        UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
+                principal,
+                null,
+                authorities
+        );
+
+        authToken.setDetails(
+                new WebAuthenticationDetailsSource().buildDetails(req)
+        );
+
+        SecurityContextHolder.getContext().setAuthentication(authToken);
+    }
 }
@@ -1,10 +1,16 @@
 package com.test.todoapp.config.security;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
@@ -15,9 +21,11 @@ import java.time.temporal.ChronoUnit;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.UUID;
 import java.util.function.Function;
 
 @Service
+@RequiredArgsConstructor
 public class JwtUtil {
 
     @Value("${application.security.jwt.secret-key}")
@@ -26,8 +34,71 @@ public class JwtUtil {
     @Value("${application.security.jwt.expiration}")
     private long jwtExpiration;
 
+    private final VerifiedTokenCache verifiedTokenCache;
+
+    private final MeterRegistry meterRegistry;
+
+    private Key signInKey;
+
+    private JwtParser jwtParser;
+
+    private Timer verifyTimer;
+
+    private Timer signTimer;
+
+    private Counter cacheHits;
+
+    private Counter cacheMisses;
+
+    /**
+     * Decodes the secret once and builds the signing key, parser and meters reused by every request.
+     */
+    @PostConstruct
+    void init() {
+        byte[] keyBytes = Decoders.BASE64.decode(secretKey);
+        this.signInKey = Keys.hmacShaKeyFor(keyBytes);
+        this.jwtParser = Jwts
+                .parserBuilder()
+                .setSigningKey(signInKey)
+                .build();
+
+        this.verifyTimer = Timer.builder("security.jwt.verify")
+                .description("Parsing and signature verification of tokens missing from the verified cache")
+                .register(meterRegistry);
+        this.signTimer = Timer.builder("security.jwt.sign")
+                .description("Signing of newly issued tokens")
+                .register(meterRegistry);
+        this.cacheHits = Counter.builder("security.jwt.verified-cache")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.cacheMisses = Counter.builder("security.jwt.verified-cache")
+                .tag("result", "miss")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Parses and verifies a token once, returning its immutable claims view.
+     * Tokens already verified are served from the {@link VerifiedTokenCache}.
+     *
+     * @param token The raw JWT.
+     * @return The {@link JwtClaims} of the token.
+     * @throws io.jsonwebtoken.JwtException If the token is malformed, expired or has an invalid signature.
+     */
+    public JwtClaims parseToken(String token) {
+        final JwtClaims cached = verifiedTokenCache.get(token);
+        if (cached != null) {
+            cacheHits.increment();
+            return cached;
+        }
+
+        cacheMisses.increment();
+        final JwtClaims claims = JwtClaims.from(verifyTimer.record(() -> extractAllClaims(token)));
+        verifiedTokenCache.put(token, claims);
+        return claims;
+    }
+
     public String extractUsername(String token) {
-        return extractClaim(token, Claims::getSubject);
+        return parseToken(token).subject();
     }
 
     public <T> T extractClaim(String token, Function<Claims, T> claimsResolver) {
@@ -36,10 +107,7 @@ public class JwtUtil {
     }
 
     private Claims extractAllClaims(String token) {
-        return Jwts
-                .parserBuilder()
-                .setSigningKey(getSignInKey())
-                .build()
+        return jwtParser
                 .parseClaimsJws(token)
                 .getBody();
     }
@@ -61,32 +129,33 @@ public class JwtUtil {
             UserDetails userDetails,
             long expiration
     ) {
-        return Jwts
+        final Instant issuedAt = Instant.now();
+        return signTimer.record(() -> Jwts
                 .builder()
                 .setClaims(extraClaims)
+                .setId(UUID.randomUUID().toString())
                 .setSubject(userDetails.getUsername())
-                .setIssuedAt(new Date(System.currentTimeMillis()))
+                .setIssuedAt(Date.from(issuedAt))
+                .claim(JwtClaims.ISSUED_AT_MILLIS, issuedAt.toEpochMilli())
                 .setExpiration(Date.from(Instant.now().plus(expiration, ChronoUnit.MILLIS)))
-                .signWith(getSignInKey(), SignatureAlgorithm.HS256)
-                .compact();
-    }
-
-    private Date extractExpiration(String token) {
-        return extractClaim(token, Claims::getExpiration);
-    }
-
-    private boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
+                .signWith(signInKey, SignatureAlgorithm.HS256)
+                .compact());
     }
 
     public boolean isTokenValid(String token, UserDetails userDetails) {
-        final String username = extractUsername(token);
-        return (username.equals(userDetails.getUsername())) && !isTokenExpired(token);
+        return isTokenValid(parseToken(token), userDetails);
     }
 
-    private Key getSignInKey() {
-        byte[] keyBytes = Decoders.BASE64.decode(secretKey);
-        return Keys.hmacShaKeyFor(keyBytes);
+    /**
+     * Validates already parsed claims against the given user without re-parsing the token.
+     *
+     * @param claims The claims of the token.
+     * @param userDetails The user the token should belong to.
+     * @return true if the subject matches and the token is not expired, false otherwise.
+     */
+    public boolean isTokenValid(JwtClaims claims, UserDetails userDetails) {
+        return claims.subject().equals(userDetails.getUsername())
+                && !claims.isExpired(Instant.now());
     }
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,196 @@
+package com.test.todoapp.config.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.test.todoapp.exception.ErrorCode;
+import com.test.todoapp.exception.ExceptionRes;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.validation.constraints.NotNull;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throttles API calls with one {@link TokenBucket} per client and endpoint group.
+ * Authenticated calls are keyed by the JWT subject, the others by client IP. Buckets live
+ * in a bounded cache and are dropped once idle for longer than the slowest refill.
+ * Rejected calls get 429 with a {@code Retry-After} header.
+ * <p>
+ * Behind a load balancer the client IP is only right if the proxy's {@code X-Forwarded-For}
+ * is applied: {@code server.forward-headers-strategy} is {@code native}, so Tomcat replaces
+ * the remote address with the forwarded one when the request comes from a trusted proxy
+ * ({@code server.tomcat.remoteip.internal-proxies}, private networks by default). Headers
+ * sent by any other peer are ignored, so clients cannot pick their own bucket.
+ */
+@Component
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final String API_PREFIX = "/api/";
+
+    private static final String AUTH_PREFIX = "/api/v1/auth/";
+
+    private final ObjectMapper objectMapper;
+
+    private final boolean enabled;
+
+    private final Map<Group, TokenBucket.Limit> limits = new EnumMap<>(Group.class);
+
+    private final Map<Group, Counter> rejections = new EnumMap<>(Group.class);
+
+    private final Cache<String, TokenBucket> buckets;
+
+    public RateLimitFilter(
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${application.rate-limit.enabled:true}") boolean enabled,
+            @Value("${application.rate-limit.max-clients:100000}") long maxClients,
+            @Value("${application.rate-limit.auth.capacity:10}") long authCapacity,
+            @Value("${application.rate-limit.auth.refill-per-second:1}") double authRefill,
+            @Value("${application.rate-limit.search.capacity:20}") long searchCapacity,
+            @Value("${application.rate-limit.search.refill-per-second:5}") double searchRefill,
+            @Value("${application.rate-limit.write.capacity:50}") long writeCapacity,
+            @Value("${application.rate-limit.write.refill-per-second:20}") double writeRefill,
+            @Value("${application.rate-limit.read.capacity:100}") long readCapacity,
+            @Value("${application.rate-limit.read.refill-per-second:50}") double readRefill) {
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        limits.put(Group.AUTH, TokenBucket.Limit.of(authCapacity, authRefill));
+        limits.put(Group.SEARCH, TokenBucket.Limit.of(searchCapacity, searchRefill));
+        limits.put(Group.WRITE, TokenBucket.Limit.of(writeCapacity, writeRefill));
+        limits.put(Group.READ, TokenBucket.Limit.of(readCapacity, readRefill));
+        for (Group group : Group.values()) {
+            rejections.put(group, Counter.builder("security.rate-limit.rejected")
+                    .tag("group", group.name().toLowerCase())
+                    .register(meterRegistry));
+        }
+
+        final long slowestRefill = limits.values().stream()
+                .mapToLong(TokenBucket.Limit::refillNanos)
+                .max()
+                .orElse(0);
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(maxClients)
+                .expireAfterAccess(Duration.ofNanos(slowestRefill))
+                .build();
+    }
+
+    /**
+     * Takes a token from the caller's bucket of the endpoint group, or rejects the request.
+     *
+     * @param req  The incoming HTTP request.
+     * @param res  The HTTP response.
+     * @param filterChain The filter chain to proceed with the next filters.
+     * @throws ServletException If a servlet-related error occurs.
+     * @throws IOException If an I/O error occurs.
+     */
+    @Override
+    protected void doFilterInternal(
+            @NotNull HttpServletRequest req,
+            @NotNull HttpServletResponse res,
+            @NotNull FilterChain filterChain) throws ServletException, IOException {
+
+        final String path = req.getServletPath();
+        if (!enabled || !path.startsWith(API_PREFIX)) {
+            filterChain.doFilter(req, res);
+            return;
+        }
+
+        final Group group = resolveGroup(req.getMethod(), path);
+        final long now = System.nanoTime();
+        final long waitNanos = buckets
+                .get(group.name() + ':' + clientKey(req, group), key -> new TokenBucket(now))
+                .tryConsume(now, limits.get(group));
+
+        if (waitNanos == 0) {
+            filterChain.doFilter(req, res);
+            return;
+        }
+
+        rejections.get(group).increment();
+        reject(req, res, waitNanos);
+    }
+
+    /**
+     * Resolves the endpoint group of a request.
+     *
+     * @param method The HTTP method.
+     * @param path The servlet path.
+     * @return The {@link Group} whose limit applies.
+     */
+    private Group resolveGroup(String method, String path) {
+        if (path.startsWith(AUTH_PREFIX)) {
+            return Group.AUTH;
+        }
+        if (path.contains("/search")) {
+            return Group.SEARCH;
+        }
+        return HttpMethod.GET.matches(method) || HttpMethod.HEAD.matches(method) ?
+                Group.READ : Group.WRITE;
+    }
+
+    /**
+     * Identifies the caller: the JWT subject once authenticated, the client IP otherwise
+     * and always for the authentication endpoints. The remote address already reflects
+     * {@code X-Forwarded-For} when the request came through a trusted proxy.
+     *
+     * @param req The incoming HTTP request.
+     * @param group The endpoint group of the request.
+     * @return The key of the caller's bucket.
+     */
+    private String clientKey(HttpServletRequest req, Group group) {
+        final Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (group != Group.AUTH && authentication != null && authentication.isAuthenticated()
+                && !(authentication instanceof AnonymousAuthenticationToken)) {
+            return "user:" + authentication.getName();
+        }
+        return "ip:" + req.getRemoteAddr();
+    }
+
+    private void reject(HttpServletRequest req, HttpServletResponse res, long waitNanos)
+            throws IOException {
+        final long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(
+                waitNanos + TimeUnit.SECONDS.toNanos(1) - 1));
+
+        res.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        res.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+        res.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(res.getOutputStream(), new ExceptionRes(
+                ErrorCode.TOO_MANY_REQUESTS.getErrCode(),
+                ErrorCode.TOO_MANY_REQUESTS.getErrMessage(),
+                HttpStatus.TOO_MANY_REQUESTS.value(),
+                req.getRequestURL().toString(),
+                req.getMethod(),
+                Instant.now()
+        ));
+    }
+
+    /**
+     * Endpoint groups sharing a limit.
+     */
+    private enum Group {
+        AUTH,
+        SEARCH,
+        WRITE,
+        READ
+    }
+}
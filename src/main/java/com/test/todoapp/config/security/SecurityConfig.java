@@ -1,8 +1,12 @@
 package com.test.todoapp.config.security;
 
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.authentication.AuthenticationProvider;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -20,6 +24,7 @@ public class SecurityConfig {
 
     private static final String[] AUTH_WHITELIST = {
             "/api/v1/auth/**",
+            "/actuator/health",
             "/VAADIN/**",
             "/swagger-resources/**",
             "/configuration/ui",
@@ -39,8 +44,12 @@ public class SecurityConfig {
 
     private final JwtFilter jwtFilter;
 
+    private final RateLimitFilter rateLimitFilter;
+
     private final CustomAuthenticationEntryPoint customAuthenticationEntryPoint;
 
+    private final Environment environment;
+
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
         http
@@ -49,15 +58,45 @@ public class SecurityConfig {
                         .sessionCreationPolicy(SessionCreationPolicy.STATELESS)
                 )
                 .authorizeHttpRequests(auth -> auth
+                        .requestMatchers(HttpMethod.POST, "/api/v1/auth/logout").authenticated()
                         .requestMatchers(AUTH_WHITELIST).permitAll()
+                        .requestMatchers(this::isPrometheusScrape).permitAll()
                         .anyRequest().authenticated()
                 )
                 .authenticationProvider(authProvider)
                 .exceptionHandling(exceptionHandlingConfigurer ->
                         exceptionHandlingConfigurer
                                 .authenticationEntryPoint(customAuthenticationEntryPoint))
-                .addFilterBefore(jwtFilter, UsernamePasswordAuthenticationFilter.class);
+                .addFilterBefore(jwtFilter, UsernamePasswordAuthenticationFilter.class)
+                .addFilterAfter(rateLimitFilter, JwtFilter.class);
         return http.build();
     }
 
+    /**
+     * Lets the Prometheus endpoint through without a token only when it is reached on the
+     * separate management port, which is meant to be reachable from the scraper alone. When
+     * the management server shares the application port, scraping requires authentication.
+     *
+     * @param req The incoming HTTP request.
+     * @return True if the request scrapes metrics on the management port.
+     */
+    private boolean isPrometheusScrape(HttpServletRequest req) {
+        final String managementPort = environment.getProperty("local.management.port");
+        return "/actuator/prometheus".equals(req.getRequestURI())
+                && managementPort != null
+                && Integer.parseInt(managementPort) == req.getLocalPort();
+    }
+
+    /**
+     * Keeps the servlet container from also registering the rate limiter ahead of the
+     * security chain, where the caller is not authenticated yet.
+     */
+    @Bean
+    public FilterRegistrationBean<RateLimitFilter> rateLimitFilterRegistration() {
+        final FilterRegistrationBean<RateLimitFilter> registration =
+                new FilterRegistrationBean<>(rateLimitFilter);
+        registration.setEnabled(false);
+        return registration;
+    }
+
 }
@@ -0,0 +1,61 @@
+package com.test.todoapp.config.security;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free token bucket, implemented as the generic cell rate algorithm: the whole state is
+ * the theoretical arrival time of the next request, advanced by one emission interval per
+ * consumed token and updated with a single compare-and-set.
+ */
+final class TokenBucket {
+
+    private final AtomicLong theoreticalArrival;
+
+    TokenBucket(long nowNanos) {
+        this.theoreticalArrival = new AtomicLong(nowNanos);
+    }
+
+    /**
+     * Takes one token if the bucket has one.
+     *
+     * @param nowNanos The current {@link System#nanoTime()}.
+     * @param limit The capacity and refill rate of the bucket.
+     * @return 0 if a token was taken, otherwise the nanoseconds until one is available.
+     */
+    long tryConsume(long nowNanos, Limit limit) {
+        while (true) {
+            final long current = theoreticalArrival.get();
+            final long start = current - nowNanos > 0 ? current : nowNanos;
+            final long wait = start - nowNanos - limit.burstToleranceNanos();
+            if (wait > 0) {
+                return wait;
+            }
+            if (theoreticalArrival.compareAndSet(current, start + limit.emissionIntervalNanos())) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * Capacity and refill rate of a bucket, expressed as the interval between two tokens and
+     * how far ahead of schedule a client may run.
+     *
+     * @param emissionIntervalNanos The nanoseconds to refill one token.
+     * @param burstToleranceNanos The nanoseconds worth of tokens beyond the first one.
+     */
+    record Limit(long emissionIntervalNanos, long burstToleranceNanos) {
+
+        static Limit of(long capacity, double refillPerSecond) {
+            final long emissionInterval = (long) (TimeUnit.SECONDS.toNanos(1) / refillPerSecond);
+            return new Limit(emissionInterval, emissionInterval * (capacity - 1));
+        }
+
+        /**
+         * @return The nanoseconds a drained bucket takes to refill completely.
+         */
+        long refillNanos() {
+            return emissionIntervalNanos + burstToleranceNanos;
+        }
+    }
+}
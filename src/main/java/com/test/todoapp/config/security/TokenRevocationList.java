@@ -0,0 +1,102 @@
+package com.test.todoapp.config.security;
+
+import com.test.todoapp.model.entity.TokenRevocation;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory copy of the stored token revocations, shared by the servlet
+ * {@link TokenRevocationService} and the reactive application. The owner pulls the
+ * revocations created since {@link #refreshFrom()} and hands them to {@link #refresh}.
+ */
+public class TokenRevocationList {
+
+    /** Token ID to the expiration of the revoked token. */
+    private final Map<String, Instant> revokedTokens = new ConcurrentHashMap<>();
+
+    /** Subject to the instant up to which its tokens are revoked. */
+    private final Map<String, Instant> revokedSubjects = new ConcurrentHashMap<>();
+
+    private final Duration tokenLifetime;
+
+    private final Duration refreshOverlap;
+
+    private volatile Instant watermark = Instant.EPOCH;
+
+    public TokenRevocationList(Duration tokenLifetime, Duration refreshOverlap) {
+        this.tokenLifetime = tokenLifetime;
+        this.refreshOverlap = refreshOverlap;
+    }
+
+    /**
+     * Checks a verified token against the revocation list.
+     * <p>
+     * Both the issue instant and the subject revocation instant are compared to the
+     * millisecond. A token without the millisecond claim only carries seconds, so it counts
+     * as revoked when issued in the same second as the revocation.
+     *
+     * @param claims The claims of the token.
+     * @return true if the token or every token of its subject issued until then was revoked.
+     */
+    public boolean isRevoked(JwtClaims claims) {
+        if (claims.id() != null && revokedTokens.containsKey(claims.id())) {
+            return true;
+        }
+        final Instant subjectRevokedAt = revokedSubjects.get(claims.subject());
+        return subjectRevokedAt != null
+                && (claims.issuedAt() == null || !claims.issuedAt().isAfter(subjectRevokedAt));
+    }
+
+    /**
+     * The creation date from which the next refresh reads the revocations, re-reading a
+     * short overlap to tolerate clock skew between instances.
+     *
+     * @return The exclusive lower bound of the creation dates to read.
+     */
+    public Instant refreshFrom() {
+        return watermark.minus(refreshOverlap);
+    }
+
+    /**
+     * Applies the revocations read since {@link #refreshFrom()}, advances the watermark and
+     * drops the entries that no longer matter.
+     *
+     * @param revocations The revocations, in creation order.
+     */
+    public void refresh(Iterable<TokenRevocation> revocations) {
+        for (TokenRevocation revocation : revocations) {
+            apply(revocation);
+            if (revocation.getCreatedAt().isAfter(watermark)) {
+                watermark = revocation.getCreatedAt();
+            }
+        }
+
+        final Instant now = Instant.now();
+        revokedTokens.values().removeIf(expiration -> expiration.isBefore(now));
+        revokedSubjects.values().removeIf(revokedAt -> revokedAt.plus(tokenLifetime).isBefore(now));
+    }
+
+    /**
+     * Applies a single revocation, e.g. one just stored by this instance.
+     *
+     * @param revocation The revocation.
+     */
+    public void apply(TokenRevocation revocation) {
+        switch (revocation.getType()) {
+            case TOKEN -> revokedTokens.put(revocation.getValue(), revocation.getExpiresAt());
+            case SUBJECT -> revokedSubjects.merge(revocation.getValue(), revocation.getCreatedAt(),
+                    (previous, current) -> current.isAfter(previous) ? current : previous);
+        }
+    }
+
+    public int revokedTokenCount() {
+        return revokedTokens.size();
+    }
+
+    public int revokedSubjectCount() {
+        return revokedSubjects.size();
+    }
+}
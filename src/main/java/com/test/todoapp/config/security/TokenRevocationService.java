@@ -0,0 +1,104 @@
+package com.test.todoapp.config.security;
+
+import com.test.todoapp.model.entity.TokenRevocation;
+import com.test.todoapp.model.enums.RevocationType;
+import com.test.todoapp.repository.TokenRevocationRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Revocation list of issued tokens, checked on every authenticated request and held in
+ * memory so that checking a token needs no database read. Revocations are stored in MongoDB and every instance
+ * pulls the ones created since its last refresh; entries are dropped once every token
+ * they cover has expired.
+ */
+@Slf4j
+@Service
+public class TokenRevocationService {
+
+    private final TokenRevocationRepository tokenRevocationRepository;
+
+    private final TokenRevocationList revocationList;
+
+    private final Duration tokenLifetime;
+
+    public TokenRevocationService(
+            TokenRevocationRepository tokenRevocationRepository,
+            MeterRegistry meterRegistry,
+            @Value("${application.security.jwt.expiration}") long jwtExpiration,
+            @Value("${application.security.revocation.refresh-overlap:5000}") long refreshOverlap) {
+        this.tokenRevocationRepository = tokenRevocationRepository;
+        this.tokenLifetime = Duration.ofMillis(jwtExpiration);
+        this.revocationList = new TokenRevocationList(tokenLifetime, Duration.ofMillis(refreshOverlap));
+        Gauge.builder("security.revocations", revocationList, TokenRevocationList::revokedTokenCount)
+                .tag("type", "token")
+                .register(meterRegistry);
+        Gauge.builder("security.revocations", revocationList, TokenRevocationList::revokedSubjectCount)
+                .tag("type", "subject")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Checks a verified token against the in-memory revocation list.
+     *
+     * @param claims The claims of the token.
+     * @return true if the token or every token of its subject issued until then was revoked.
+     * @see TokenRevocationList#isRevoked(JwtClaims)
+     */
+    public boolean isRevoked(JwtClaims claims) {
+        return revocationList.isRevoked(claims);
+    }
+
+    /**
+     * Revokes a single token until it expires, e.g. when its holder logs out.
+     *
+     * @param claims The claims of the token.
+     */
+    public void revokeToken(JwtClaims claims) {
+        if (claims.id() == null || claims.expiration() == null) {
+            return;
+        }
+        revocationList.apply(save(RevocationType.TOKEN, claims.id(), Instant.now(), claims.expiration()));
+    }
+
+    /**
+     * Revokes every token issued to a subject until now, e.g. after the user was disabled
+     * or its credentials changed.
+     *
+     * @param subject The subject (user email).
+     */
+    public void revokeAllTokensOf(String subject) {
+        final Instant now = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+        revocationList.apply(save(RevocationType.SUBJECT, subject, now, now.plus(tokenLifetime)));
+    }
+
+    /**
+     * Pulls the revocations created since the last refresh into the in-memory list.
+     */
+    @Scheduled(fixedDelayString = "${application.security.revocation.refresh-interval:10000}")
+    public void refresh() {
+        try {
+            revocationList.refresh(tokenRevocationRepository
+                    .findAllCreatedAfter(revocationList.refreshFrom()));
+        } catch (RuntimeException ex) {
+            log.error("Token revocation refresh failed, retrying at next interval", ex);
+        }
+    }
+
+    private TokenRevocation save(RevocationType type, String value, Instant createdAt, Instant expiresAt) {
+        return tokenRevocationRepository.save(TokenRevocation.builder()
+                .type(type)
+                .value(value)
+                .createdAt(createdAt)
+                .expiresAt(expiresAt)
+                .build());
+    }
+}
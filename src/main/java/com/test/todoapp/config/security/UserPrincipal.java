@@ -0,0 +1,62 @@
+package com.test.todoapp.config.security;
+
+import com.test.todoapp.model.entity.User;
+import com.test.todoapp.model.enums.ObjStatus;
+import com.test.todoapp.model.enums.Role;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Collection;
+import java.util.Collections;
+
+/**
+ * Lightweight principal holding only the fields needed for authentication.
+ *
+ * @param email The email of the user, used as username.
+ * @param password The password hash of the user.
+ * @param role The role of the user.
+ * @param objStatus The status of the user.
+ */
+public record UserPrincipal(
+        String email,
+        String password,
+        Role role,
+        ObjStatus objStatus
+) implements UserDetails {
+
+    /**
+     * Builds a principal from a (possibly projected) user document.
+     *
+     * @param user The user to convert.
+     * @return The converted UserPrincipal.
+     */
+    public static UserPrincipal from(User user) {
+        return new UserPrincipal(
+                user.getEmail(),
+                user.getPassword(),
+                user.getRole(),
+                user.getObjStatus()
+        );
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return Collections.singleton(new SimpleGrantedAuthority("ROLE_" + this.role));
+    }
+
+    @Override
+    public String getPassword() {
+        return this.password;
+    }
+
+    @Override
+    public String getUsername() {
+        return this.email;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return this.objStatus == ObjStatus.ACTIVE;
+    }
+}
@@ -0,0 +1,77 @@
+package com.test.todoapp.config.security;
+
+import com.test.todoapp.model.entity.User;
+import com.test.todoapp.model.enums.ObjStatus;
+import com.test.todoapp.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.mongodb.core.mapping.event.AbstractMongoEventListener;
+import org.springframework.data.mongodb.core.mapping.event.AfterDeleteEvent;
+import org.springframework.data.mongodb.core.mapping.event.AfterSaveEvent;
+import org.springframework.data.mongodb.core.mapping.event.BeforeSaveEvent;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Evicts cached principals whenever a user document is saved or deleted,
+ * so that status, role and password changes take effect immediately.
+ * Saving a user that is no longer active, or whose password, role or email changed,
+ * also revokes the tokens issued until then.
+ */
+@Component
+@RequiredArgsConstructor
+public class UserPrincipalEvictionListener extends AbstractMongoEventListener<User> {
+
+    private final CachingUserDetailsService userDetailsService;
+
+    private final TokenRevocationService tokenRevocationService;
+
+    private final UserRepository userRepository;
+
+    /** ID of each user being saved with changed credentials to its previous email. */
+    private final Map<String, String> credentialChanges = new ConcurrentHashMap<>();
+
+    /**
+     * Compares the credentials of an existing user with the stored ones before they are
+     * overwritten, so that the tokens issued with the old ones can be revoked once saved.
+     *
+     * @param event The event holding the user about to be saved.
+     */
+    @Override
+    public void onBeforeSave(BeforeSaveEvent<User> event) {
+        final User user = event.getSource();
+        if (user.getId() == null) {
+            return;
+        }
+        userRepository.findById(user.getId())
+                .filter(previous -> credentialsChanged(previous, user))
+                .ifPresent(previous -> credentialChanges.put(user.getId(), previous.getEmail()));
+    }
+
+    @Override
+    public void onAfterSave(AfterSaveEvent<User> event) {
+        final User user = event.getSource();
+        userDetailsService.evict(user.getEmail());
+        final String previousEmail = user.getId() == null ? null : credentialChanges.remove(user.getId());
+        if (previousEmail != null) {
+            userDetailsService.evict(previousEmail);
+            tokenRevocationService.revokeAllTokensOf(previousEmail);
+        }
+        if (user.getObjStatus() != ObjStatus.ACTIVE) {
+            tokenRevocationService.revokeAllTokensOf(user.getEmail());
+        }
+    }
+
+    @Override
+    public void onAfterDelete(AfterDeleteEvent<User> event) {
+        userDetailsService.evictAll();
+    }
+
+    private boolean credentialsChanged(User previous, User user) {
+        return !Objects.equals(previous.getPassword(), user.getPassword())
+                || previous.getRole() != user.getRole()
+                || !Objects.equals(previous.getEmail(), user.getEmail());
+    }
+}
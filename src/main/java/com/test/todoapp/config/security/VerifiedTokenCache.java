@@ -0,0 +1,99 @@
+package com.test.todoapp.config.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+
+/**
+ * Bounded cache of tokens whose signature has already been verified.
+ * Entries are keyed by the SHA-256 digest of the token and evicted when the token expires.
+ */
+@Component
+public class VerifiedTokenCache {
+
+    private final Cache<String, JwtClaims> cache;
+
+    public VerifiedTokenCache(
+            @Value("${application.security.jwt.verified-cache.max-size:10000}") long maxSize) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new TokenExpiry())
+                .build();
+    }
+
+    /**
+     * Returns the verified claims of a token, if present and not expired.
+     *
+     * @param token The raw JWT.
+     * @return The cached {@link JwtClaims}, or null on a miss.
+     */
+    public JwtClaims get(String token) {
+        final JwtClaims claims = cache.getIfPresent(digest(token));
+        if (claims != null && claims.isExpired(Instant.now())) {
+            return null;
+        }
+        return claims;
+    }
+
+    /**
+     * Stores the verified claims of a token until the token expires.
+     *
+     * @param token The raw JWT.
+     * @param claims The claims obtained after signature verification.
+     */
+    public void put(String token, JwtClaims claims) {
+        if (claims.expiration() == null || claims.isExpired(Instant.now())) {
+            return;
+        }
+        cache.put(digest(token), claims);
+    }
+
+    /**
+     * Computes the hex-encoded SHA-256 digest used as cache key.
+     *
+     * @param token The raw JWT.
+     * @return The digest of the token.
+     */
+    private static String digest(String token) {
+        try {
+            final MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(
+                    messageDigest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * Expires each entry at the expiration instant of its token.
+     */
+    private static final class TokenExpiry implements Expiry<String, JwtClaims> {
+
+        @Override
+        public long expireAfterCreate(String key, JwtClaims claims, long currentTime) {
+            final Duration remaining = Duration.between(Instant.now(), claims.expiration());
+            return Math.max(0, remaining.toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, JwtClaims claims,
+                                      long currentTime, long currentDuration) {
+            return expireAfterCreate(key, claims, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, JwtClaims claims,
+                                    long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -9,4 +9,7 @@ public class MessageException {
     public final static String TITLE_INVALID = "Title invalid";
     public final static String DESCRIPTION_INVALID = "Description invalid";
     public static final String USER_ID_INVALID = "User ID invalid";
+    public static final String TASK_ID_INVALID = "Task ID invalid";
+    public static final String TASK_INVALID = "Task invalid";
+    public static final String BULK_SIZE_INVALID = "Batch must contain between 1 and 1000 items";
 }
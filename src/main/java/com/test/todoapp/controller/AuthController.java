@@ -8,6 +8,7 @@ import com.test.todoapp.dtos.user.UserRes;
 import com.test.todoapp.service.AuthService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.*;
 
@@ -41,4 +42,15 @@ public class AuthController {
     public UserRes register(@Valid @RequestBody RegisterReq registerReq) {
         return authService.registerUser(registerReq);
     }
+
+    /**
+     * Handles user logout requests by revoking the bearer token of the request.
+     *
+     * @param authorization The Authorization header holding the token to revoke.
+     */
+    @PostMapping(APIEndPoint.AUTH_V1 + "/logout")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public void logout(@RequestHeader(HttpHeaders.AUTHORIZATION) String authorization) {
+        authService.logoutUser(authorization.substring("Bearer ".length()));
+    }
 }
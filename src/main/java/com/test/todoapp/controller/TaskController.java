@@ -1,17 +1,38 @@
 package com.test.todoapp.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.test.todoapp.constants.APIEndPoint;
+import com.test.todoapp.converter.TaskFieldsConverter;
+import com.test.todoapp.dtos.CursorPageRes;
 import com.test.todoapp.dtos.PageRes;
+import com.test.todoapp.dtos.task.BulkItemRes;
+import com.test.todoapp.dtos.task.BulkTaskDeleteReq;
+import com.test.todoapp.dtos.task.BulkTaskReq;
+import com.test.todoapp.dtos.task.BulkTaskUpdateReq;
+import com.test.todoapp.dtos.task.TaskListRes;
 import com.test.todoapp.dtos.task.TaskReq;
 import com.test.todoapp.dtos.task.TaskRes;
+import com.test.todoapp.event.TaskEventBus;
 import com.test.todoapp.service.TaskService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.MappingJacksonValue;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Set;
+import java.util.stream.Stream;
 
 @RestController
 @RequiredArgsConstructor
@@ -20,36 +41,108 @@ public class TaskController {
 
     private final TaskService taskService;
 
+    private final ObjectMapper objectMapper;
+
+    private final TaskEventBus taskEventBus;
+
+    @Value("${application.stream.flush-size:500}")
+    private int streamFlushSize;
+
     /**
      * Retrieves all active tasks.
      *
+     * @param fields The comma-separated task properties to return, or null for all of them.
+     * @param request The current request, answered with 304 when its If-None-Match matches.
      * @return A set of {@link TaskRes} objects representing all active tasks.
      */
     @GetMapping(APIEndPoint.TASK_V1)
-    public Set<TaskRes> getAllTasks() {
-        return taskService.getAllTasks();
+    public MappingJacksonValue getAllTasks(@RequestParam(required = false) String fields,
+                                           WebRequest request) {
+        final Set<String> selected = TaskFieldsConverter.convertToFields(fields);
+        if (isNotModified(request, taskService.getAllTasksETag())) {
+            return null;
+        }
+        return withFields(taskService.getAllTasks(selected), selected);
+    }
+
+    /**
+     * Streams all active tasks as newline-delimited JSON, one task per line.
+     *
+     * @param fields The comma-separated task properties to return, or null for all of them.
+     * @return A {@link StreamingResponseBody} writing the tasks as they are read from the database.
+     */
+    @GetMapping(value = APIEndPoint.TASK_V1 + "/stream",
+            produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public StreamingResponseBody streamAllTasks(@RequestParam(required = false) String fields) {
+        final Set<String> selected = TaskFieldsConverter.convertToFields(fields);
+        return out -> writeNdjson(taskService.streamAllTasks(selected), selected, out);
     }
 
     /**
      * Retrieves a task by its ID.
      *
      * @param id The ID of the task to retrieve.
+     * @param fields The comma-separated task properties to return, or null for all of them.
+     * @param request The current request, answered with 304 when its If-None-Match matches.
      * @return A {@link TaskRes} object representing the task.
      */
     @GetMapping(APIEndPoint.TASK_V1 + "/{id}")
-    public TaskRes getTaskById(@PathVariable String id) {
-        return taskService.getTaskById(id);
+    public MappingJacksonValue getTaskById(@PathVariable String id,
+                                           @RequestParam(required = false) String fields,
+                                           WebRequest request) {
+        final Set<String> selected = TaskFieldsConverter.convertToFields(fields);
+        if (isNotModified(request, taskService.getTaskETag(id))) {
+            return null;
+        }
+        return withFields(taskService.getTaskById(id), selected);
     }
 
     /**
      * Retrieves all tasks associated with a specific user.
      *
      * @param userId The ID of the user.
+     * @param fields The comma-separated task properties to return, or null for all of them.
+     * @param request The current request, answered with 304 when its If-None-Match matches.
      * @return A set of {@link TaskRes} objects representing the user's tasks.
      */
     @GetMapping(APIEndPoint.TASK_V1 + "/user/{userId}")
-    public Set<TaskRes> getTasksByUserId(@PathVariable String userId) {
-        return taskService.getAllTasksByUserId(userId);
+    public MappingJacksonValue getTasksByUserId(@PathVariable String userId,
+                                                @RequestParam(required = false) String fields,
+                                                WebRequest request) {
+        final Set<String> selected = TaskFieldsConverter.convertToFields(fields);
+        final TaskListRes taskList = taskService.getAllTasksByUserId(userId);
+        if (isNotModified(request, taskList.eTag())) {
+            return null;
+        }
+        return withFields(taskList.tasks(), selected);
+    }
+
+    /**
+     * Streams all tasks of a specific user as newline-delimited JSON, one task per line.
+     *
+     * @param userId The ID of the user.
+     * @param fields The comma-separated task properties to return, or null for all of them.
+     * @return A {@link StreamingResponseBody} writing the tasks as they are read from the database.
+     */
+    @GetMapping(value = APIEndPoint.TASK_V1 + "/user/{userId}/stream",
+            produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public StreamingResponseBody streamTasksByUserId(@PathVariable String userId,
+                                                     @RequestParam(required = false) String fields) {
+        final Set<String> selected = TaskFieldsConverter.convertToFields(fields);
+        return out -> writeNdjson(taskService.streamAllTasksByUserId(userId, selected), selected, out);
+    }
+
+    /**
+     * Opens a Server-Sent Events stream pushing the creations, updates and deletions of the
+     * tasks of a user, named created, updated and deleted.
+     *
+     * @param userId The ID of the user.
+     * @return The {@link SseEmitter} writing the events as they happen.
+     */
+    @GetMapping(value = APIEndPoint.TASK_V1 + "/user/{userId}/events",
+            produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamTaskEvents(@PathVariable String userId) {
+        return taskEventBus.subscribe(userId);
     }
 
     /**
@@ -57,34 +150,50 @@ public class TaskController {
      *
      * @param id The ID of the task.
      * @param userId The ID of the user.
+     * @param fields The comma-separated task properties to return, or null for all of them.
      * @return A {@link TaskRes} object representing the task.
      */
     @GetMapping(APIEndPoint.TASK_V1 + "/{id}/user/{userId}")
-    public TaskRes getTaskByIdAndUserId(
+    public MappingJacksonValue getTaskByIdAndUserId(
             @PathVariable String id,
-            @PathVariable String userId) {
-        return taskService.getTaskByIdAndUserId(id,userId);
+            @PathVariable String userId,
+            @RequestParam(required = false) String fields) {
+        final Set<String> selected = TaskFieldsConverter.convertToFields(fields);
+        return withFields(taskService.getTaskByIdAndUserId(id, userId), selected);
     }
 
     /**
      * Searches and filters tasks by title with pagination and sorting.
      *
      * @param title The title to search for.
+     * @param mode The search mode (TEXT, PREFIX or REGEX).
+     * @param count How to compute the total (EXACT, CACHED, ESTIMATED or NONE). An ESTIMATED
+     *              total reaching the configured cap is only a lower bound.
      * @param page The page number for pagination.
      * @param size The number of items per page.
      * @param sortBy The field to sort by.
      * @param sortDir The direction of sorting (ASC or DESC).
+     * @param fields The comma-separated task properties to return, or null for all of them.
+     * @param request The current request, answered with 304 when its If-None-Match matches.
      * @return A {@link PageRes} object containing the filtered and paginated tasks.
      */
     @GetMapping(APIEndPoint.TASK_V1 + "/search")
-    public PageRes<TaskRes> searchAndFilterTasks(
+    public MappingJacksonValue searchAndFilterTasks(
             @RequestParam String title,
+            @RequestParam(required = false) String mode,
+            @RequestParam(required = false) String count,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
             @RequestParam(defaultValue = "asc") String sortBy,
-            @RequestParam(defaultValue = "title") String sortDir) {
-        return taskService
-                .searchAndFilterTasks(title, page, size, sortBy, sortDir);
+            @RequestParam(defaultValue = "title") String sortDir,
+            @RequestParam(required = false) String fields,
+            WebRequest request) {
+        final Set<String> selected = TaskFieldsConverter.convertToFields(fields);
+        if (isNotModified(request, taskService.getAllTasksETag())) {
+            return null;
+        }
+        return withFields(taskService.searchAndFilterTasks(
+                title, mode, count, page, size, sortBy, sortDir, selected), selected);
     }
 
     /**
@@ -92,23 +201,105 @@ public class TaskController {
      *
      * @param userId The ID of the user.
      * @param title The title to search for.
+     * @param mode The search mode (TEXT, PREFIX or REGEX).
+     * @param count How to compute the total (EXACT, CACHED, ESTIMATED or NONE). An ESTIMATED
+     *              total reaching the configured cap is only a lower bound.
      * @param page The page number for pagination.
      * @param size The number of items per page.
      * @param sortBy The field to sort by.
      * @param sortDir The direction of sorting (ASC or DESC).
+     * @param fields The comma-separated task properties to return, or null for all of them.
+     * @param request The current request, answered with 304 when its If-None-Match matches.
      * @return A {@link PageRes} object containing the filtered and paginated tasks.
      */
     @GetMapping(APIEndPoint.TASK_V1 + "/user/{userId}/search")
-    public PageRes<TaskRes> searchAndFilterTasksByUserId(
+    public MappingJacksonValue searchAndFilterTasksByUserId(
             @PathVariable String userId,
             @RequestParam String title,
+            @RequestParam(required = false) String mode,
+            @RequestParam(required = false) String count,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
             @RequestParam(defaultValue = "asc") String sortBy,
-            @RequestParam(defaultValue = "title") String sortDir
+            @RequestParam(defaultValue = "title") String sortDir,
+            @RequestParam(required = false) String fields,
+            WebRequest request
+    ){
+        final Set<String> selected = TaskFieldsConverter.convertToFields(fields);
+        if (isNotModified(request, taskService.getAllTasksByUserIdETag(userId))) {
+            return null;
+        }
+        return withFields(taskService.searchAndFilterTasksUser(
+                title, mode, count, userId, page, size, sortBy, sortDir, selected), selected);
+    }
+
+    /**
+     * Searches and filters tasks by title with cursor pagination.
+     *
+     * @param title The title to search for.
+     * @param mode The search mode (TEXT, PREFIX or REGEX).
+     * @param cursor The continuation token returned by the previous page.
+     * @param size The number of items per page.
+     * @param sortBy The field to sort by.
+     * @param sortDir The direction of sorting (ASC or DESC).
+     * @param withTotal Whether to include the total number of matching tasks.
+     * @param fields The comma-separated task properties to return, or null for all of them.
+     * @param request The current request, answered with 304 when its If-None-Match matches.
+     * @return A {@link CursorPageRes} object containing the page and the next continuation token.
+     */
+    @GetMapping(APIEndPoint.TASK_V1 + "/search/cursor")
+    public MappingJacksonValue searchAndFilterTasksByCursor(
+            @RequestParam String title,
+            @RequestParam(required = false) String mode,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "title") String sortBy,
+            @RequestParam(defaultValue = "asc") String sortDir,
+            @RequestParam(defaultValue = "false") boolean withTotal,
+            @RequestParam(required = false) String fields,
+            WebRequest request) {
+        final Set<String> selected = TaskFieldsConverter.convertToFields(fields);
+        if (isNotModified(request, taskService.getAllTasksETag())) {
+            return null;
+        }
+        return withFields(taskService.searchAndFilterTasksByCursor(
+                title, mode, cursor, size, sortBy, sortDir, withTotal, selected), selected);
+    }
+
+    /**
+     * Searches and filters tasks by title and user ID with cursor pagination.
+     *
+     * @param userId The ID of the user.
+     * @param title The title to search for.
+     * @param mode The search mode (TEXT, PREFIX or REGEX).
+     * @param cursor The continuation token returned by the previous page.
+     * @param size The number of items per page.
+     * @param sortBy The field to sort by.
+     * @param sortDir The direction of sorting (ASC or DESC).
+     * @param withTotal Whether to include the total number of matching tasks.
+     * @param fields The comma-separated task properties to return, or null for all of them.
+     * @param request The current request, answered with 304 when its If-None-Match matches.
+     * @return A {@link CursorPageRes} object containing the page and the next continuation token.
+     */
+    @GetMapping(APIEndPoint.TASK_V1 + "/user/{userId}/search/cursor")
+    public MappingJacksonValue searchAndFilterTasksByUserIdAndCursor(
+            @PathVariable String userId,
+            @RequestParam String title,
+            @RequestParam(required = false) String mode,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "title") String sortBy,
+            @RequestParam(defaultValue = "asc") String sortDir,
+            @RequestParam(defaultValue = "false") boolean withTotal,
+            @RequestParam(required = false) String fields,
+            WebRequest request
     ){
-        return taskService.searchAndFilterTasksUser(
-                title, userId, page, size, sortBy, sortDir);
+        final Set<String> selected = TaskFieldsConverter.convertToFields(fields);
+        if (isNotModified(request, taskService.getAllTasksByUserIdETag(userId))) {
+            return null;
+        }
+        return withFields(taskService.searchAndFilterTasksUserByCursor(
+                title, mode, userId, cursor, size, sortBy, sortDir, withTotal, selected), selected);
     }
 
     /**
@@ -117,7 +308,7 @@ public class TaskController {
      * @param taskReq The task creation request containing task details.
      * @return A {@link TaskRes} object representing the created task.
      */
-    @PreAuthorize("hasAuthority('LEADER')")
+    @PreAuthorize("hasRole('LEADER')")
     @PostMapping(APIEndPoint.TASK_V1)
     @ResponseStatus(HttpStatus.CREATED)
     public TaskRes addTask(@Valid @RequestBody TaskReq taskReq) {
@@ -131,7 +322,7 @@ public class TaskController {
      * @param taskReq The task update request containing new task details.
      * @return A {@link TaskRes} object representing the updated task.
      */
-    @PreAuthorize("hasAuthority('LEADER')")
+    @PreAuthorize("hasRole('LEADER')")
     @PutMapping(APIEndPoint.TASK_V1 + "/{id}")
     @ResponseStatus(HttpStatus.ACCEPTED)
     public TaskRes updateTask(@Valid @RequestBody TaskReq taskReq, @PathVariable String id) {
@@ -143,10 +334,98 @@ public class TaskController {
      *
      * @param id The ID of the task to delete.
      */
-    @PreAuthorize("hasAuthority('LEADER')")
+    @PreAuthorize("hasRole('LEADER')")
     @DeleteMapping(APIEndPoint.TASK_V1 + "/{id}")
     @ResponseStatus(HttpStatus.NO_CONTENT)
     public void deleteTask( @PathVariable String id) {
         taskService.deleteTaskById(id);
     }
+
+    /**
+     * Creates a batch of tasks in a single bulk write.
+     *
+     * @param req The batch of task creation requests.
+     * @return One {@link BulkItemRes} per task, in request order.
+     */
+    @PreAuthorize("hasRole('LEADER')")
+    @PostMapping(APIEndPoint.TASK_V1 + "/bulk")
+    public List<BulkItemRes> addTasks(@Valid @RequestBody BulkTaskReq req) {
+        return taskService.createTasks(req.getTasks());
+    }
+
+    /**
+     * Updates a batch of tasks in place with one bulk write; stale items are reported as CONFLICT.
+     *
+     * @param req The batch of task update requests.
+     * @return One {@link BulkItemRes} per task, in request order.
+     */
+    @PreAuthorize("hasRole('LEADER')")
+    @PutMapping(APIEndPoint.TASK_V1 + "/bulk")
+    public List<BulkItemRes> updateTasks(@Valid @RequestBody BulkTaskUpdateReq req) {
+        return taskService.updateTasks(req.getTasks());
+    }
+
+    /**
+     * Deletes a batch of tasks by their IDs (soft delete) in a single bulk write.
+     *
+     * @param req The batch of task IDs.
+     * @return One {@link BulkItemRes} per ID, in request order.
+     */
+    @PreAuthorize("hasRole('LEADER')")
+    @DeleteMapping(APIEndPoint.TASK_V1 + "/bulk")
+    public List<BulkItemRes> deleteTasks(@Valid @RequestBody BulkTaskDeleteReq req) {
+        return taskService.deleteTasks(req.getIds());
+    }
+
+    /**
+     * Checks the request's If-None-Match against the current ETag of the resource.
+     * When it matches, the response is set to 304 and the handler returns without a body.
+     *
+     * @param request The current request.
+     * @param eTag The current ETag, or null if the resource has none.
+     * @return true if the client's copy is up to date, false otherwise.
+     */
+    private boolean isNotModified(WebRequest request, String eTag) {
+        return eTag != null && request.checkNotModified(eTag);
+    }
+
+    /**
+     * Wraps a response body so that only the selected properties of its tasks are written.
+     *
+     * @param body The response body holding one or more {@link TaskRes}.
+     * @param fields The selected task properties, or null to write all of them.
+     * @return The body with its serialization filters.
+     */
+    private MappingJacksonValue withFields(Object body, Set<String> fields) {
+        final MappingJacksonValue value = new MappingJacksonValue(body);
+        value.setFilters(TaskFieldsConverter.convertToFilters(fields));
+        return value;
+    }
+
+    /**
+     * Writes each task as one JSON line, flushing after every flush-size lines. Blocking writes on the
+     * response stream hold back the database cursor, so a slow client slows down the reads
+     * instead of buffering the whole result in memory.
+     *
+     * @param tasks The stream of tasks to write, closed once written.
+     * @param fields The selected task properties, or null to write all of them.
+     * @param out The response output stream.
+     * @throws IOException If writing to the response fails.
+     */
+    private void writeNdjson(Stream<TaskRes> tasks, Set<String> fields,
+                             OutputStream out) throws IOException {
+        final ObjectWriter writer = objectMapper.writer(TaskFieldsConverter.convertToFilters(fields));
+        try (tasks) {
+            final Iterator<TaskRes> iterator = tasks.iterator();
+            int written = 0;
+            while (iterator.hasNext()) {
+                out.write(writer.writeValueAsBytes(iterator.next()));
+                out.write('\n');
+                if (++written % streamFlushSize == 0) {
+                    out.flush();
+                }
+            }
+            out.flush();
+        }
+    }
 }
@@ -2,10 +2,13 @@ package com.test.todoapp.converter;
 
 import com.test.todoapp.dtos.auth.AuthRes;
 import com.test.todoapp.dtos.auth.RegisterReq;
+import com.test.todoapp.model.entity.Task;
 import com.test.todoapp.model.entity.User;
 import com.test.todoapp.model.enums.ObjStatus;
 import com.test.todoapp.model.enums.Role;
 
+import java.util.Set;
+
 
 public class AuthConverter {
 
@@ -33,12 +36,13 @@ public class AuthConverter {
      *
      * @param token The Token to convert.
      * @param user The User to convert.
+     * @param tasks The active tasks of the user.
      * @return The converted AuthRes(token, UserRes).
      */
-    public static AuthRes covertToDto(String token, User user) {
+    public static AuthRes covertToDto(String token, User user, Set<Task> tasks) {
         return new AuthRes(
                 token,
-                UserConverter.convertToDto(user)
+                UserConverter.convertToDto(user, tasks)
         );
     }
 }
@@ -0,0 +1,106 @@
+package com.test.todoapp.converter;
+
+import com.test.todoapp.dtos.task.TaskCursor;
+import com.test.todoapp.exception.BadRequestException;
+import com.test.todoapp.exception.ErrorCode;
+import com.test.todoapp.model.entity.Task;
+import org.springframework.data.domain.Sort;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.Set;
+
+public class CursorConverter {
+
+    public static final Set<String> SORTABLE_FIELDS =
+            Set.of("id", "title", "description", "createdAt", "updatedAt");
+
+    private static final String SEPARATOR = "|";
+
+    private static final String NULL_VALUE = "0";
+
+    private static final String PRESENT_VALUE = "1";
+
+    /**
+     * Builds the cursor pointing after the given task.
+     *
+     * @param task The last task of the current page.
+     * @param sortBy The field the page is sorted by.
+     * @param direction The sort direction.
+     * @return The TaskCursor positioned after the task.
+     */
+    public static TaskCursor convertToCursor(Task task, String sortBy, Sort.Direction direction) {
+        final Object value = switch (sortBy) {
+            case "title" -> task.getTitle();
+            case "description" -> task.getDescription();
+            case "createdAt" -> task.getCreatedAt();
+            case "updatedAt" -> task.getUpdatedAt();
+            default -> task.getId();
+        };
+        return new TaskCursor(sortBy, direction, task.getId(), value);
+    }
+
+    /**
+     * Converts a TaskCursor to an opaque continuation token.
+     *
+     * @param cursor The TaskCursor to convert.
+     * @return The encoded token.
+     */
+    public static String encode(TaskCursor cursor) {
+        final String raw = String.join(SEPARATOR,
+                cursor.sortBy(),
+                cursor.direction().name(),
+                cursor.lastId(),
+                cursor.lastValue() == null ? NULL_VALUE : PRESENT_VALUE,
+                cursor.lastValue() == null ? "" : cursor.lastValue().toString());
+
+        return Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Converts an opaque continuation token back to a TaskCursor.
+     *
+     * @param token The token to convert.
+     * @return The decoded TaskCursor.
+     * @throws BadRequestException If the token is not a valid cursor.
+     */
+    public static TaskCursor decode(String token) {
+        try {
+            final String raw = new String(
+                    Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            final String[] parts = raw.split("\\|", 5);
+
+            if (parts.length != 5 || !SORTABLE_FIELDS.contains(parts[0])) {
+                throw invalidCursor();
+            }
+
+            final Object value = NULL_VALUE.equals(parts[3]) ?
+                    null : parseValue(parts[0], parts[4]);
+
+            return new TaskCursor(
+                    parts[0],
+                    Sort.Direction.fromString(parts[1]),
+                    parts[2],
+                    value);
+        } catch (IllegalArgumentException | DateTimeParseException ex) {
+            throw invalidCursor();
+        }
+    }
+
+    private static Object parseValue(String sortBy, String value) {
+        return switch (sortBy) {
+            case "createdAt", "updatedAt" -> LocalDateTime.parse(value);
+            default -> value;
+        };
+    }
+
+    private static BadRequestException invalidCursor() {
+        return new BadRequestException(
+                ErrorCode.INVALID_CURSOR.getErrCode(),
+                ErrorCode.INVALID_CURSOR.getErrMessage());
+    }
+}
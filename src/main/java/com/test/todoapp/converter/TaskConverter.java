@@ -4,8 +4,12 @@ import com.test.todoapp.dtos.task.TaskReq;
 import com.test.todoapp.dtos.task.TaskRes;
 import com.test.todoapp.model.entity.Task;
 import com.test.todoapp.model.enums.ObjStatus;
+import org.springframework.data.mongodb.core.query.Update;
 
+import java.text.Normalizer;
+import java.time.LocalDateTime;
 import java.util.HashSet;
+import java.util.Locale;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -41,10 +45,52 @@ public class TaskConverter {
                 task.getDescription(),
                 task.getUserId(),
                 task.getCreatedAt(),
-                task.getUpdatedAt()
+                task.getUpdatedAt(),
+                task.getVersion()
         );
     }
 
+    /**
+     * Converts the editable fields of a Task to an in-place update, which also sets the
+     * modification date and increments the version.
+     *
+     * @param changes The Task holding the new title, description and user ID.
+     * @param updatedAt The modification date to store.
+     * @return The {@link Update} to apply to the stored task.
+     */
+    public static Update convertToUpdate(Task changes, LocalDateTime updatedAt) {
+        return new Update()
+                .set("title", changes.getTitle())
+                .set("titleKey", convertToTitleKey(changes.getTitle()))
+                .set("description", changes.getDescription())
+                .set("userId", changes.getUserId())
+                .set("updatedAt", updatedAt)
+                .inc("version", 1);
+    }
+
+    /**
+     * Builds the Task stored by {@link #convertToUpdate} from the Task as it was before the update.
+     *
+     * @param previous The Task before the update.
+     * @param changes The Task holding the new title, description and user ID.
+     * @param updatedAt The modification date that was stored.
+     * @return The updated Task.
+     */
+    public static Task convertToUpdatedEntity(Task previous, Task changes, LocalDateTime updatedAt) {
+        return Task
+                .builder()
+                .id(previous.getId())
+                .title(changes.getTitle())
+                .titleKey(convertToTitleKey(changes.getTitle()))
+                .description(changes.getDescription())
+                .userId(changes.getUserId())
+                .createdAt(previous.getCreatedAt())
+                .updatedAt(updatedAt)
+                .objStatus(previous.getObjStatus())
+                .version(previous.getVersion() == null ? 1 : previous.getVersion() + 1)
+                .build();
+    }
+
     /**
      * Converts a list of Task objects to a list of TaskRes objects.
      *
@@ -61,6 +107,45 @@ public class TaskConverter {
                 .collect(Collectors.toSet());
     }
 
+    /**
+     * Converts a title to its normalized key used for case-insensitive prefix search.
+     *
+     * @param title The title to convert.
+     * @return The NFKC-normalized, lower-cased title, or null if the title is null.
+     */
+    public static String convertToTitleKey(String title) {
+        if (title == null) {
+            return null;
+        }
+
+        return Normalizer.normalize(title, Normalizer.Form.NFKC)
+                .toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Converts a title key to the smallest string greater than every string it prefixes.
+     * MongoDB compares strings by their UTF-8 bytes, which follow code point order, so
+     * the bound increments the last code point instead of appending a sentinel char.
+     *
+     * @param key The title key to convert.
+     * @return The exclusive upper bound for the prefix, or null if no bound exists.
+     */
+    public static String convertToTitleKeyUpperBound(String key) {
+        if (key == null) {
+            return null;
+        }
+
+        final int[] codePoints = key.codePoints().toArray();
+        for (int i = codePoints.length - 1; i >= 0; i--) {
+            if (codePoints[i] < Character.MAX_CODE_POINT) {
+                final int next = codePoints[i] + 1;
+                codePoints[i] = next == Character.MIN_SURROGATE ? Character.MAX_SURROGATE + 1 : next;
+                return new String(codePoints, 0, i + 1);
+            }
+        }
+        return null;
+    }
+
     /**
      * Converts a list of TaskReq objects to a list of Task objects.
      *
@@ -0,0 +1,63 @@
+package com.test.todoapp.converter;
+
+import com.fasterxml.jackson.databind.ser.FilterProvider;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import com.test.todoapp.exception.BadRequestException;
+import com.test.todoapp.exception.ErrorCode;
+
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+public class TaskFieldsConverter {
+
+    public static final String FILTER_ID = "taskFields";
+
+    public static final Set<String> SELECTABLE_FIELDS = Set.of(
+            "id", "title", "description", "userId", "createdAt", "updatedAt", "version");
+
+    private static final FilterProvider ALL_FIELDS = new SimpleFilterProvider()
+            .setDefaultFilter(SimpleBeanPropertyFilter.serializeAll());
+
+    /**
+     * Converts a {@code fields} request parameter to the set of selected task properties.
+     *
+     * @param fields The comma-separated property names, or null to select every property.
+     * @return The selected property names, or null to select every property.
+     * @throws BadRequestException If a name is not a task property.
+     */
+    public static Set<String> convertToFields(String fields) {
+        if (fields == null || fields.isBlank()) {
+            return null;
+        }
+
+        final Set<String> selected = Arrays.stream(fields.split(","))
+                .map(String::trim)
+                .filter(field -> !field.isEmpty())
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+
+        if (selected.isEmpty() || !SELECTABLE_FIELDS.containsAll(selected)) {
+            throw new BadRequestException(
+                    ErrorCode.INVALID_FIELDS.getErrCode(),
+                    ErrorCode.INVALID_FIELDS.getErrMessage());
+        }
+        return selected;
+    }
+
+    /**
+     * Builds the Jackson filters writing only the selected properties of each task.
+     *
+     * @param fields The selected property names, or null to write every property.
+     * @return The {@link FilterProvider} to serialize the response with.
+     */
+    public static FilterProvider convertToFilters(Set<String> fields) {
+        if (fields == null) {
+            return ALL_FIELDS;
+        }
+        return new SimpleFilterProvider()
+                .setDefaultFilter(SimpleBeanPropertyFilter.serializeAll())
+                .addFilter(FILTER_ID, SimpleBeanPropertyFilter.filterOutAllExcept(fields));
+    }
+}
@@ -1,23 +1,38 @@
 package com.test.todoapp.converter;
 
 import com.test.todoapp.dtos.user.UserRes;
+import com.test.todoapp.model.entity.Task;
 import com.test.todoapp.model.entity.User;
 
+import java.util.HashSet;
+import java.util.Set;
+
 public class UserConverter {
 
     /**
-     * Converts a User to a UserRes.
+     * Converts a User without tasks to a UserRes.
      *
      * @param user The User to convert.
      * @return The converted UserRes.
      */
     public static UserRes convertToDto(User user) {
+        return convertToDto(user, new HashSet<>());
+    }
+
+    /**
+     * Converts a User and its tasks to a UserRes.
+     *
+     * @param user The User to convert.
+     * @param tasks The active tasks of the user.
+     * @return The converted UserRes.
+     */
+    public static UserRes convertToDto(User user, Set<Task> tasks) {
         return new UserRes(
                 user.getId(),
                 user.getName(),
                 user.getEmail(),
                 TaskConverter
-                        .convertToDtoList(user.getTasks()),
+                        .convertToDtoList(tasks),
                 user.getCreatedAt(),
                 user.getUpdatedAt()
         );
@@ -0,0 +1,12 @@
+package com.test.todoapp.dtos;
+
+import java.util.List;
+
+public record CursorPageRes<T>(
+        List<T> content,
+        int pageSize,
+        String nextCursor,
+        boolean last,
+        Long totalElements
+) {
+}
@@ -6,8 +6,8 @@ public record PageRes<T>(
         Set<T> content,
         int pageNo,
         int pageSize,
-        long totalElements,
-        int totalPages,
+        Long totalElements,
+        Integer totalPages,
         boolean last
 ) {
 }
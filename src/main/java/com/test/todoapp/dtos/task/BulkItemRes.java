@@ -0,0 +1,13 @@
+package com.test.todoapp.dtos.task;
+
+import com.test.todoapp.model.enums.BulkItemStatus;
+
+public record BulkItemRes(
+        int index,
+        String id,
+        BulkItemStatus status,
+        TaskRes task,
+        String errCode,
+        String errMessage
+) {
+}
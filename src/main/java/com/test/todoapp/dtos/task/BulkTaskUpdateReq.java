@@ -0,0 +1,22 @@
+package com.test.todoapp.dtos.task;
+
+import com.test.todoapp.constants.MessageException;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder @Getter
+public class BulkTaskUpdateReq {
+
+    @NotEmpty(message = MessageException.BULK_SIZE_INVALID)
+    @Size(max = 1000, message = MessageException.BULK_SIZE_INVALID)
+    private List<@Valid TaskUpdateItemReq> tasks;
+}
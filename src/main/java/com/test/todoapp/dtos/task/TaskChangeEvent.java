@@ -0,0 +1,10 @@
+package com.test.todoapp.dtos.task;
+
+import com.test.todoapp.model.enums.TaskChangeType;
+
+public record TaskChangeEvent(
+        TaskChangeType type,
+        String userId,
+        TaskRes task
+) {
+}
@@ -0,0 +1,11 @@
+package com.test.todoapp.dtos.task;
+
+import org.springframework.data.domain.Sort;
+
+public record TaskCursor(
+        String sortBy,
+        Sort.Direction direction,
+        String lastId,
+        Object lastValue
+) {
+}
@@ -0,0 +1,9 @@
+package com.test.todoapp.dtos.task;
+
+import java.util.Set;
+
+public record TaskListRes(
+        String eTag,
+        Set<TaskRes> tasks
+) {
+}
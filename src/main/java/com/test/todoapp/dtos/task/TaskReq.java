@@ -20,4 +20,6 @@ public class TaskReq {
 
     @NotBlank(message = MessageException.USER_ID_INVALID)
     private String userId;
+
+    private Long version;
 }
@@ -8,6 +8,7 @@ public record TaskRes(
         String description,
         String userId,
         LocalDateTime createdAt,
-        LocalDateTime updatedAt
+        LocalDateTime updatedAt,
+        Long version
 ) {
 }
@@ -0,0 +1,23 @@
+package com.test.todoapp.dtos.task;
+
+import com.test.todoapp.constants.MessageException;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder @Getter
+public class TaskUpdateItemReq {
+
+    @NotBlank(message = MessageException.TASK_ID_INVALID)
+    private String id;
+
+    @Valid
+    @NotNull(message = MessageException.TASK_INVALID)
+    private TaskReq task;
+}
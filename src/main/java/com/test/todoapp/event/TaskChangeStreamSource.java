@@ -0,0 +1,115 @@
+package com.test.todoapp.event;
+
+import com.mongodb.client.model.changestream.ChangeStreamDocument;
+import com.mongodb.client.model.changestream.FullDocument;
+import com.mongodb.client.model.changestream.FullDocumentBeforeChange;
+import com.mongodb.client.model.changestream.OperationType;
+import com.test.todoapp.converter.TaskConverter;
+import com.test.todoapp.dtos.task.TaskChangeEvent;
+import com.test.todoapp.model.entity.Task;
+import com.test.todoapp.model.enums.ObjStatus;
+import com.test.todoapp.model.enums.TaskChangeType;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.messaging.ChangeStreamRequest;
+import org.springframework.data.mongodb.core.messaging.DefaultMessageListenerContainer;
+import org.springframework.data.mongodb.core.messaging.Message;
+import org.springframework.data.mongodb.core.messaging.MessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+/**
+ * Feeds the {@link TaskEventBus} from a MongoDB change stream on the task collection instead
+ * of from the service, so that every instance also pushes the writes made by the others.
+ * Requires a replica set; enabled with {@code application.events.change-stream.enabled}.
+ * Soft deletes are updates of the status and are published as deletions; the hard deletes
+ * of archived tasks are not published.
+ * <p>
+ * A task moved to another user is published as deleted to its previous owner and as created
+ * to its new one, like the service does. The previous owner is read from the pre-image of
+ * the update, which needs MongoDB 6.0 and pre-images enabled on the task collection; the
+ * source enables them at startup. Where that is not possible, e.g. on older servers or
+ * without the collMod privilege, a move is only published to the new owner, as an update,
+ * and clients of the previous owner only see it once they reload the list.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "application.events.change-stream.enabled", havingValue = "true")
+public class TaskChangeStreamSource {
+
+    private final MongoTemplate mongoTemplate;
+
+    private final TaskEventBus taskEventBus;
+
+    private MessageListenerContainer container;
+
+    @PostConstruct
+    void start() {
+        final String collection = mongoTemplate.getCollectionName(Task.class);
+        enablePreImages(collection);
+        container = new DefaultMessageListenerContainer(mongoTemplate);
+        container.register(ChangeStreamRequest.builder(this::onChange)
+                .collection(collection)
+                .fullDocumentLookup(FullDocument.UPDATE_LOOKUP)
+                .fullDocumentBeforeChangeLookup(FullDocumentBeforeChange.WHEN_AVAILABLE)
+                .build(), Task.class);
+        container.start();
+    }
+
+    @PreDestroy
+    void stop() {
+        if (container != null) {
+            container.stop();
+        }
+    }
+
+    /**
+     * Makes the server record the pre-image of every change of the task collection, so that
+     * the previous owner of a moved task is known.
+     *
+     * @param collection The name of the task collection.
+     */
+    private void enablePreImages(String collection) {
+        try {
+            mongoTemplate.executeCommand(new Document("collMod", collection)
+                    .append("changeStreamPreAndPostImages", new Document("enabled", true)));
+        } catch (RuntimeException ex) {
+            log.warn("Cannot enable pre-images on {}, tasks moved to another user will only be "
+                    + "published to their new owner", collection, ex);
+        }
+    }
+
+    private void onChange(Message<ChangeStreamDocument<Document>, Task> message) {
+        final Task task = message.getBody();
+        final OperationType operation = message.getRaw() == null ? null : message.getRaw().getOperationType();
+        if (task == null || operation == null) {
+            return;
+        }
+
+        final Document before = message.getRaw().getFullDocumentBeforeChange();
+        if (before != null && task.getObjStatus() == ObjStatus.ACTIVE
+                && !task.getUserId().equals(before.getString("userId"))) {
+            final Task previous = mongoTemplate.getConverter().read(Task.class, before);
+            taskEventBus.publish(new TaskChangeEvent(TaskChangeType.DELETED, previous.getUserId(),
+                    TaskConverter.convertToDto(previous)));
+            taskEventBus.publish(new TaskChangeEvent(TaskChangeType.CREATED, task.getUserId(),
+                    TaskConverter.convertToDto(task)));
+            return;
+        }
+
+        final TaskChangeType type = switch (operation) {
+            case INSERT -> TaskChangeType.CREATED;
+            case UPDATE, REPLACE -> task.getObjStatus() == ObjStatus.ACTIVE ?
+                    TaskChangeType.UPDATED : TaskChangeType.DELETED;
+            default -> null;
+        };
+        if (type != null) {
+            taskEventBus.publish(new TaskChangeEvent(type, task.getUserId(), TaskConverter.convertToDto(task)));
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package com.test.todoapp.event;
+
+import com.test.todoapp.dtos.task.TaskChangeEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * In-process bus delivering task change events to the Server-Sent Events subscribers of
+ * the task owner.
+ * <p>
+ * Publishing never blocks: each subscriber has a bounded buffer drained by its own virtual
+ * thread, which does the blocking writes to the client. A subscriber whose buffer is full
+ * is too slow to keep up and is evicted; its client reconnects and reloads the task list.
+ * Idle connections get a heartbeat comment so that proxies keep them open and dead ones
+ * are detected.
+ */
+@Slf4j
+@Component
+public class TaskEventBus {
+
+    private final Map<String, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+
+    private final Counter publishedCounter;
+
+    private final Counter evictedCounter;
+
+    private final int bufferSize;
+
+    private final long heartbeat;
+
+    private final long timeout;
+
+    public TaskEventBus(
+            MeterRegistry meterRegistry,
+            @Value("${application.events.buffer-size:256}") int bufferSize,
+            @Value("${application.events.heartbeat:15000}") long heartbeat,
+            @Value("${application.events.timeout:1800000}") long timeout) {
+        this.bufferSize = bufferSize;
+        this.heartbeat = heartbeat;
+        this.timeout = timeout;
+        this.publishedCounter = Counter.builder("tasks.events.published")
+                .description("Task change events delivered to subscriber buffers")
+                .register(meterRegistry);
+        this.evictedCounter = Counter.builder("tasks.events.evicted")
+                .description("Subscribers dropped because their buffer was full")
+                .register(meterRegistry);
+        Gauge.builder("tasks.events.subscribers", subscriberCount, AtomicInteger::get)
+                .description("Open task event streams")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Opens an event stream on the task changes of a user.
+     *
+     * @param userId The ID of the user.
+     * @return The {@link SseEmitter} writing the events to the client.
+     */
+    public SseEmitter subscribe(String userId) {
+        final SseEmitter emitter = new SseEmitter(timeout);
+        final Subscriber subscriber = new Subscriber(userId, emitter, new ArrayBlockingQueue<>(bufferSize));
+
+        emitter.onCompletion(() -> unsubscribe(subscriber));
+        emitter.onTimeout(() -> unsubscribe(subscriber));
+        emitter.onError(ex -> unsubscribe(subscriber));
+
+        subscribers.computeIfAbsent(userId, id -> ConcurrentHashMap.newKeySet()).add(subscriber);
+        subscriberCount.incrementAndGet();
+        Thread.ofVirtual().name("task-events-" + userId).start(() -> drain(subscriber));
+        return emitter;
+    }
+
+    /**
+     * Hands an event to every subscriber of the task owner, evicting those that lag behind.
+     *
+     * @param event The task change event.
+     */
+    public void publish(TaskChangeEvent event) {
+        final Set<Subscriber> userSubscribers = subscribers.get(event.userId());
+        if (userSubscribers == null) {
+            return;
+        }
+
+        for (Subscriber subscriber : userSubscribers) {
+            if (subscriber.buffer().offer(event)) {
+                publishedCounter.increment();
+            } else {
+                log.warn("Evicting slow task event subscriber of user {}", event.userId());
+                evictedCounter.increment();
+                unsubscribe(subscriber);
+            }
+        }
+    }
+
+    /**
+     * Writes the buffered events of a subscriber to its client until it is unsubscribed,
+     * sending a heartbeat whenever no event arrived for a while.
+     *
+     * @param subscriber The subscriber.
+     */
+    private void drain(Subscriber subscriber) {
+        try {
+            while (isSubscribed(subscriber)) {
+                final TaskChangeEvent event = subscriber.buffer().poll(heartbeat, TimeUnit.MILLISECONDS);
+                if (!isSubscribed(subscriber)) {
+                    break;
+                }
+                subscriber.emitter().send(event == null ?
+                        SseEmitter.event().comment("heartbeat") :
+                        SseEmitter.event()
+                                .name(event.type().name().toLowerCase())
+                                .data(event, MediaType.APPLICATION_JSON));
+            }
+            subscriber.emitter().complete();
+        } catch (IOException | IllegalStateException ex) {
+            unsubscribe(subscriber);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            unsubscribe(subscriber);
+            subscriber.emitter().complete();
+        }
+    }
+
+    private boolean isSubscribed(Subscriber subscriber) {
+        final Set<Subscriber> userSubscribers = subscribers.get(subscriber.userId());
+        return userSubscribers != null && userSubscribers.contains(subscriber);
+    }
+
+    private void unsubscribe(Subscriber subscriber) {
+        subscribers.computeIfPresent(subscriber.userId(), (userId, userSubscribers) -> {
+            if (userSubscribers.remove(subscriber)) {
+                subscriberCount.decrementAndGet();
+            }
+            return userSubscribers.isEmpty() ? null : userSubscribers;
+        });
+    }
+
+    private record Subscriber(String userId, SseEmitter emitter, BlockingQueue<TaskChangeEvent> buffer) {
+    }
+}
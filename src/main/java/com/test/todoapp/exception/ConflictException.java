@@ -0,0 +1,7 @@
+package com.test.todoapp.exception;
+
+public class ConflictException extends CustomException {
+    public ConflictException(String errCode, String msg) {
+        super(errCode, msg);
+    }
+}
@@ -25,7 +25,14 @@ public enum ErrorCode {
     TASK_NOT_FOUND("PACKT-0015", "Task not found!"),
     USER_NOT_FOUND("PACKT-0016", "User not found!"),
     EMAIL_ALREADY_EXISTS("PACKT-0017", "Email already exists!"),
-    PASSWORD_INCORRECT("PACKT-0018", "Password incorrect!"),;
+    PASSWORD_INCORRECT("PACKT-0018", "Password incorrect!"),
+    INVALID_CURSOR("PACKT-0019", "Invalid pagination cursor!"),
+    DUPLICATE_BULK_ITEM("PACKT-0020", "Batch contains the same task more than once!"),
+    TASK_VERSION_CONFLICT("PACKT-0021", "Task was modified by another request!"),
+    TOO_MANY_REQUESTS("PACKT-0022", "Too many requests, retry later!"),
+    AUTH_BUSY("PACKT-0023", "Too many logins in progress, retry later!"),
+    INVALID_FIELDS("PACKT-0024", "Invalid field selection!"),
+    TASK_INGEST_BUSY("PACKT-0025", "Too many task writes in progress, retry later!"),;
 
     private final String errCode;
     private final String errMessage;
@@ -2,9 +2,12 @@ package com.test.todoapp.exception;
 
 import com.fasterxml.jackson.core.JsonParseException;
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.ConstraintViolationException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.support.DefaultMessageSourceResolvable;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.http.converter.HttpMessageNotWritableException;
@@ -167,6 +170,59 @@ public class GlobalException {
         return buildResponse(ErrorCode.GENERIC_ERROR, HttpStatus.BAD_REQUEST, request, ex);
     }
 
+    /**
+     * Handles updates rejected because the resource changed since it was read
+     * (e.g. ConflictException, OptimisticLockingFailureException).
+     *
+     * @param request - HttpServletRequest containing information about the request.
+     * @param ex - Exception thrown.
+     * @return ExceptionRes - Object containing error information.
+     */
+    @ExceptionHandler({
+            ConflictException.class,
+            OptimisticLockingFailureException.class
+    })
+    @ResponseStatus(HttpStatus.CONFLICT)
+    public ExceptionRes handleConflictErrors(HttpServletRequest request, Exception ex) {
+        log.warn("Stale update rejected", ex);
+        if (ex instanceof ConflictException conflictEx) {
+            return new ExceptionRes(
+                    conflictEx.getErrCode(),
+                    conflictEx.getErrMsg(),
+                    HttpStatus.CONFLICT.value(),
+                    request.getRequestURL().toString(),
+                    request.getMethod(),
+                    Instant.now()
+            );
+        }
+        return buildResponse(ErrorCode.TASK_VERSION_CONFLICT, HttpStatus.CONFLICT, request, ex);
+    }
+
+    /**
+     * Handles requests shed because a bounded resource is saturated (e.g. ServiceUnavailableException).
+     *
+     * @param request - HttpServletRequest containing information about the request.
+     * @param response - HttpServletResponse receiving the Retry-After header.
+     * @param ex - Exception thrown.
+     * @return ExceptionRes - Object containing error information.
+     */
+    @ExceptionHandler(ServiceUnavailableException.class)
+    @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+    public ExceptionRes handleServiceUnavailableErrors(HttpServletRequest request,
+                                                       HttpServletResponse response,
+                                                       ServiceUnavailableException ex) {
+        log.warn("Request shed: {}", ex.getErrMsg());
+        response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+        return new ExceptionRes(
+                ex.getErrCode(),
+                ex.getErrMsg(),
+                HttpStatus.SERVICE_UNAVAILABLE.value(),
+                request.getRequestURL().toString(),
+                request.getMethod(),
+                Instant.now()
+        );
+    }
+
     /**
      * Handles errors related to authorization being denied (e.g. AccessDeniedException).
      *
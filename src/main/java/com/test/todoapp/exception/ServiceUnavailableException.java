@@ -0,0 +1,7 @@
+package com.test.todoapp.exception;
+
+public class ServiceUnavailableException extends CustomException {
+    public ServiceUnavailableException(String errCode, String msg) {
+        super(errCode, msg);
+    }
+}
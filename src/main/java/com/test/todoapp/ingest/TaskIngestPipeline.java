@@ -0,0 +1,315 @@
+package com.test.todoapp.ingest;
+
+import com.mongodb.bulk.BulkWriteError;
+import com.test.todoapp.exception.ErrorCode;
+import com.test.todoapp.exception.ServiceUnavailableException;
+import com.test.todoapp.model.entity.Task;
+import com.test.todoapp.repository.TaskRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
+
+/**
+ * Group commit of task creations. Callers enqueue their task and wait; a single writer
+ * thread gathers the queued tasks and inserts them with one unordered bulk insert once the
+ * batch is full or the first task has lingered long enough, then hands each caller its
+ * saved task. Under bursts of concurrent creations this trades a few milliseconds of
+ * latency for one round trip per batch instead of one per task.
+ * <p>
+ * Tasks get their ID before being queued and the bulk insert is unordered, so a write
+ * error only fails the callers of the tasks it reports; the rest of the batch is committed
+ * and completed normally. A batch that fails as a whole fails every caller of it.
+ * <p>
+ * The queue is bounded: when it is full the caller fails fast with a
+ * {@link ServiceUnavailableException}, as it does when its task is not committed within
+ * the timeout or the pipeline stops. Should the writer thread die, the tasks still queued
+ * are failed and the pipeline rejects new ones. Disabled by default, in which case no
+ * writer thread is started.
+ */
+@Slf4j
+@Component
+public class TaskIngestPipeline implements AutoCloseable {
+
+    private static final long IDLE_POLL_MILLIS = 100;
+
+    private final MongoTemplate mongoTemplate;
+
+    private final TaskRepository taskRepository;
+
+    private final boolean enabled;
+
+    private final int batchSize;
+
+    private final long lingerNanos;
+
+    private final long timeoutNanos;
+
+    private final BlockingQueue<PendingTask> queue;
+
+    private final DistributionSummary batchSummary;
+
+    private final Timer flushTimer;
+
+    private final Timer latencyTimer;
+
+    private final Counter rejectedCounter;
+
+    private final Thread writer;
+
+    private volatile boolean running;
+
+    public TaskIngestPipeline(
+            MongoTemplate mongoTemplate,
+            TaskRepository taskRepository,
+            MeterRegistry meterRegistry,
+            @Value("${application.ingest.tasks.enabled:false}") boolean enabled,
+            @Value("${application.ingest.tasks.batch-size:500}") int batchSize,
+            @Value("${application.ingest.tasks.linger:5}") long linger,
+            @Value("${application.ingest.tasks.queue-capacity:10000}") int queueCapacity,
+            @Value("${application.ingest.tasks.timeout:5000}") long timeout) {
+        this.mongoTemplate = mongoTemplate;
+        this.taskRepository = taskRepository;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.lingerNanos = TimeUnit.MILLISECONDS.toNanos(linger);
+        this.timeoutNanos = TimeUnit.MILLISECONDS.toNanos(timeout);
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSummary = DistributionSummary.builder("tasks.ingest.batch")
+                .description("Tasks inserted per group commit")
+                .baseUnit("tasks")
+                .register(meterRegistry);
+        this.flushTimer = Timer.builder("tasks.ingest.flush")
+                .description("Bulk insert of one group commit")
+                .register(meterRegistry);
+        this.latencyTimer = Timer.builder("tasks.ingest.latency")
+                .description("Time from enqueueing a task to its commit")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("tasks.ingest.rejected")
+                .description("Task creations rejected because the ingest queue was full or stopped")
+                .register(meterRegistry);
+        Gauge.builder("tasks.ingest.queue", queue, Collection::size)
+                .description("Tasks waiting for the next group commit")
+                .register(meterRegistry);
+
+        this.running = enabled;
+        this.writer = enabled ?
+                Thread.ofPlatform().name("task-ingest").daemon().start(this::run) : null;
+    }
+
+    /**
+     * Whether task creations go through the pipeline.
+     *
+     * @return true if the pipeline is enabled.
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Enqueues a task and waits until the batch holding it is committed.
+     * <p>
+     * A task that times out after its batch was sent may still be committed; it then
+     * exists under the ID it was given here.
+     *
+     * @param task The task to insert.
+     * @return The inserted task, with its ID and audit dates.
+     * @throws ServiceUnavailableException If the queue is full, the pipeline is stopped or
+     *                                     the task was not committed within the timeout.
+     */
+    public Task insert(Task task) {
+        final LocalDateTime now = LocalDateTime.now();
+        final PendingTask pending = new PendingTask(
+                task.toBuilder()
+                        .id(new ObjectId().toHexString())
+                        .createdAt(now)
+                        .updatedAt(now)
+                        .version(0L)
+                        .build(),
+                new CompletableFuture<>(),
+                System.nanoTime());
+        if (!running || !queue.offer(pending)) {
+            throw rejected();
+        }
+        if (!running && queue.remove(pending)) {
+            // Stopped while enqueueing: the writer may already have drained the queue.
+            throw rejected();
+        }
+
+        try {
+            return pending.result().get(timeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(ex.getCause());
+        } catch (TimeoutException ex) {
+            queue.remove(pending);
+            throw rejected();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            queue.remove(pending);
+            throw rejected();
+        }
+    }
+
+    /**
+     * Stops accepting tasks and waits for the writer to commit the queued ones.
+     */
+    @Override
+    public void close() throws InterruptedException {
+        running = false;
+        if (writer != null) {
+            writer.join();
+        }
+    }
+
+    /**
+     * Writer loop: waits for a first task, gathers more until the batch is full or the
+     * linger time since the first one has elapsed, and commits the batch. However it exits,
+     * the pipeline stops and the tasks left in the queue are failed.
+     */
+    private void run() {
+        try {
+            final List<PendingTask> batch = new ArrayList<>(batchSize);
+            while (running || !queue.isEmpty()) {
+                try {
+                    final PendingTask first = queue.poll(IDLE_POLL_MILLIS, TimeUnit.MILLISECONDS);
+                    if (first == null) {
+                        continue;
+                    }
+                    batch.add(first);
+
+                    final long deadline = System.nanoTime() + lingerNanos;
+                    while (batch.size() < batchSize) {
+                        queue.drainTo(batch, batchSize - batch.size());
+                        final long remaining = deadline - System.nanoTime();
+                        if (batch.size() >= batchSize || remaining <= 0) {
+                            break;
+                        }
+                        final PendingTask next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                        if (next == null) {
+                            break;
+                        }
+                        batch.add(next);
+                    }
+                } catch (InterruptedException ex) {
+                    log.warn("Task ingest writer interrupted, committing {} queued tasks", batch.size());
+                    running = false;
+                }
+
+                if (!batch.isEmpty()) {
+                    flush(batch);
+                    batch.clear();
+                }
+            }
+        } catch (Error ex) {
+            log.error("Task ingest writer died, rejecting new tasks", ex);
+            throw ex;
+        } finally {
+            running = false;
+            final List<PendingTask> abandoned = new ArrayList<>();
+            queue.drainTo(abandoned);
+            abandoned.forEach(pending -> pending.result().completeExceptionally(busy()));
+        }
+    }
+
+    /**
+     * Inserts a batch with one unordered bulk insert, increments the task revisions of its
+     * users and completes the callers waiting on it. Only the callers of the tasks reported
+     * by a write error are failed; the tasks being committed, a failed increment is only
+     * logged.
+     *
+     * @param batch The queued tasks, in enqueue order.
+     */
+    private void flush(List<PendingTask> batch) {
+        Set<Integer> failed = Set.of();
+        RuntimeException failure = null;
+        try {
+            flushTimer.record(() -> mongoTemplate
+                    .bulkOps(BulkOperations.BulkMode.UNORDERED, Task.class)
+                    .insert(batch.stream().map(PendingTask::task).toList())
+                    .execute());
+        } catch (BulkOperationException ex) {
+            log.error("Group commit of {} tasks failed for {} of them",
+                    batch.size(), ex.getErrors().size(), ex);
+            failed = ex.getErrors().stream().map(BulkWriteError::getIndex).collect(Collectors.toSet());
+            failure = ex;
+        } catch (Throwable ex) {
+            log.error("Group commit of {} tasks failed", batch.size(), ex);
+            final RuntimeException cause = ex instanceof RuntimeException runtime ? runtime : busy();
+            batch.forEach(pending -> pending.result().completeExceptionally(cause));
+            if (ex instanceof Error error) {
+                throw error;
+            }
+            return;
+        }
+        batchSummary.record(batch.size());
+        incrementRevisions(batch, failed);
+
+        final long now = System.nanoTime();
+        for (int i = 0; i < batch.size(); i++) {
+            final PendingTask pending = batch.get(i);
+            if (failed.contains(i)) {
+                pending.result().completeExceptionally(failure);
+            } else {
+                latencyTimer.record(Duration.ofNanos(now - pending.enqueuedAt()));
+                pending.result().complete(pending.task());
+            }
+        }
+    }
+
+    private void incrementRevisions(List<PendingTask> batch, Set<Integer> failed) {
+        final Set<String> userIds = new HashSet<>();
+        for (int i = 0; i < batch.size(); i++) {
+            if (!failed.contains(i)) {
+                userIds.add(batch.get(i).task().getUserId());
+            }
+        }
+        if (userIds.isEmpty()) {
+            return;
+        }
+        try {
+            taskRepository.incrementRevisions(userIds);
+        } catch (RuntimeException ex) {
+            log.error("Task revisions of {} users not incremented", userIds.size(), ex);
+        }
+    }
+
+    private ServiceUnavailableException rejected() {
+        rejectedCounter.increment();
+        return busy();
+    }
+
+    private static ServiceUnavailableException busy() {
+        return new ServiceUnavailableException(
+                ErrorCode.TASK_INGEST_BUSY.getErrCode(),
+                ErrorCode.TASK_INGEST_BUSY.getErrMessage());
+    }
+
+    private record PendingTask(Task task, CompletableFuture<Task> result, long enqueuedAt) {
+    }
+}
@@ -0,0 +1,287 @@
+package com.test.todoapp.maintenance;
+
+import com.test.todoapp.model.entity.Task;
+import com.test.todoapp.model.enums.ObjStatus;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.FindAndReplaceOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+/**
+ * Moves tasks soft deleted longer than the retention period out of the task collection into
+ * an archive collection, so that the task collection and its indexes only hold live data.
+ * <p>
+ * A run archives batch by batch in (updatedAt, _id) order and pauses between batches to
+ * throttle its load on the database. Its cut-off date and position are stored in a
+ * checkpoint document after each batch, so a run interrupted by a restart resumes where it
+ * stopped instead of starting over. Copies are upserts keyed by _id and the source delete
+ * only removes DELETED tasks, so replaying a batch is harmless.
+ * <p>
+ * Every instance schedules the archiver, but only one runs it at a time: a run first takes a
+ * lease on the checkpoint document, recording its owner and expiry, and renews it with every
+ * checkpoint. Another instance only takes over once the lease has expired, e.g. after its
+ * owner died, and resumes from the checkpoint. A run that finds its lease taken over stops.
+ */
+@Slf4j
+@Component
+public class DeletedTaskArchiver {
+
+    static final String CHECKPOINT_COLLECTION = "maintenance_checkpoint";
+
+    static final String CHECKPOINT_ID = "deleted-task-archiver";
+
+    private static final String UPDATED_AT = "updatedAt";
+
+    private static final String OWNER = "owner";
+
+    private static final String LEASE_UNTIL = "leaseUntil";
+
+    private final String owner = UUID.randomUUID().toString();
+
+    private final MongoTemplate mongoTemplate;
+
+    private final Counter archivedCounter;
+
+    private final Timer batchTimer;
+
+    private final AtomicLong runArchived = new AtomicLong();
+
+    private final AtomicLong checkpointEpochMillis = new AtomicLong();
+
+    @Value("${application.archive.deleted-tasks.enabled:true}")
+    private boolean enabled;
+
+    @Value("${application.archive.deleted-tasks.retention:2592000000}")
+    private long retention;
+
+    @Value("${application.archive.deleted-tasks.batch-size:500}")
+    private int batchSize;
+
+    @Value("${application.archive.deleted-tasks.batch-pause:200}")
+    private long batchPause;
+
+    @Value("${application.archive.deleted-tasks.collection:task_archive}")
+    private String archiveCollection;
+
+    @Value("${application.archive.deleted-tasks.compact:false}")
+    private boolean compact;
+
+    @Value("${application.archive.deleted-tasks.lease:600000}")
+    private long lease;
+
+    public DeletedTaskArchiver(MongoTemplate mongoTemplate, MeterRegistry meterRegistry) {
+        this.mongoTemplate = mongoTemplate;
+        this.archivedCounter = Counter.builder("tasks.archive.archived")
+                .description("Deleted tasks moved to the archive collection")
+                .register(meterRegistry);
+        this.batchTimer = Timer.builder("tasks.archive.batch")
+                .description("Copy and delete of one archive batch")
+                .register(meterRegistry);
+        Gauge.builder("tasks.archive.run.archived", runArchived, AtomicLong::get)
+                .description("Deleted tasks archived by the current or last run")
+                .register(meterRegistry);
+        Gauge.builder("tasks.archive.checkpoint.lag", checkpointEpochMillis,
+                        millis -> millis.get() == 0 ? 0 :
+                                (System.currentTimeMillis() - millis.get()) / 1000.0)
+                .description("Age in seconds of the last archived task, i.e. how far the run has progressed")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Archives every task deleted before the retention cut-off, resuming the unfinished run
+     * of a previous process if there is one. Does nothing while another instance holds the lease.
+     */
+    @Scheduled(initialDelayString = "${application.archive.deleted-tasks.initial-delay:60000}",
+            fixedDelayString = "${application.archive.deleted-tasks.interval:3600000}")
+    public void archive() {
+        if (!enabled) {
+            return;
+        }
+
+        final String taskCollection = mongoTemplate.getCollectionName(Task.class);
+        final Document checkpoint = acquireLease();
+        if (checkpoint == null) {
+            log.debug("Deleted task archiving is running on another instance");
+            return;
+        }
+        if (!checkpoint.containsKey("cutoff")) {
+            checkpoint.append("cutoff", Date.from(Instant.now().minusMillis(retention)))
+                    .append("archived", 0L);
+            runArchived.set(0);
+        } else {
+            runArchived.set(checkpoint.get("archived", Number.class).longValue());
+            log.info("Resuming deleted task archiving after {} tasks", runArchived.get());
+        }
+
+        try {
+            List<Document> tasks;
+            do {
+                tasks = mongoTemplate.find(batchQuery(checkpoint), Document.class, taskCollection);
+                if (tasks.isEmpty()) {
+                    break;
+                }
+
+                final List<Document> batch = tasks;
+                batchTimer.record(() -> moveToArchive(batch, taskCollection));
+
+                final Document last = tasks.getLast();
+                checkpoint.put("lastUpdatedAt", last.get(UPDATED_AT));
+                checkpoint.put("lastId", last.get("_id"));
+                checkpoint.put("archived", runArchived.addAndGet(tasks.size()));
+                archivedCounter.increment(tasks.size());
+                if (!saveCheckpoint(checkpoint)) {
+                    log.warn("Deleted task archiving lease lost after {} tasks", runArchived.get());
+                    return;
+                }
+                if (last.getDate(UPDATED_AT) != null) {
+                    checkpointEpochMillis.set(last.getDate(UPDATED_AT).getTime());
+                }
+
+                Thread.sleep(batchPause);
+            } while (tasks.size() == batchSize);
+
+            mongoTemplate.remove(ownedCheckpoint(), CHECKPOINT_COLLECTION);
+            checkpointEpochMillis.set(0);
+            if (runArchived.get() > 0) {
+                log.info("Archived {} deleted tasks into {}", runArchived.get(), archiveCollection);
+                compactIfEnabled(taskCollection);
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException ex) {
+            log.error("Deleted task archiving stopped after {} tasks", runArchived.get(), ex);
+        }
+    }
+
+    /**
+     * Takes the lease on the checkpoint document, creating it if there is no unfinished run.
+     * The lease is granted if it is free, expired or already held by this instance.
+     *
+     * @return The checkpoint document, or null if another instance holds the lease.
+     */
+    private Document acquireLease() {
+        final Date now = new Date();
+        final Query query = new Query(where("_id").is(CHECKPOINT_ID).orOperator(
+                where(LEASE_UNTIL).exists(false),
+                where(LEASE_UNTIL).lt(now),
+                where(OWNER).is(owner)));
+        final Update update = new Update()
+                .set(OWNER, owner)
+                .set(LEASE_UNTIL, new Date(now.getTime() + lease));
+
+        try {
+            return mongoTemplate.findAndModify(query, update,
+                    FindAndModifyOptions.options().upsert(true).returnNew(true),
+                    Document.class, CHECKPOINT_COLLECTION);
+        } catch (DuplicateKeyException ex) {
+            return null;
+        }
+    }
+
+    /**
+     * Stores the progress of the run and renews its lease, unless another instance took the
+     * lease over in the meantime.
+     *
+     * @param checkpoint The checkpoint of the run.
+     * @return True if the checkpoint was saved, false if the lease was lost.
+     */
+    private boolean saveCheckpoint(Document checkpoint) {
+        final Update update = new Update().set(LEASE_UNTIL, new Date(System.currentTimeMillis() + lease));
+        checkpoint.forEach((key, value) -> {
+            if (!"_id".equals(key) && !OWNER.equals(key) && !LEASE_UNTIL.equals(key)) {
+                update.set(key, value);
+            }
+        });
+        return mongoTemplate.updateFirst(ownedCheckpoint(), update, CHECKPOINT_COLLECTION)
+                .getMatchedCount() > 0;
+    }
+
+    private Query ownedCheckpoint() {
+        return new Query(where("_id").is(CHECKPOINT_ID).and(OWNER).is(owner));
+    }
+
+    /**
+     * Builds the query of the next batch: DELETED tasks older than the cut-off, after the
+     * checkpoint position, in (updatedAt, _id) order. Served by the partial deleted_updated_idx index.
+     *
+     * @param checkpoint The checkpoint of the run.
+     * @return The batch {@link Query}.
+     */
+    private Query batchQuery(Document checkpoint) {
+        final Query query = new Query(where("objStatus").is(ObjStatus.DELETED)
+                .and(UPDATED_AT).lt(checkpoint.getDate("cutoff")));
+
+        if (checkpoint.containsKey("lastId")) {
+            final Object lastUpdatedAt = checkpoint.get("lastUpdatedAt");
+            final Object lastId = checkpoint.get("lastId");
+            query.addCriteria(new Criteria().orOperator(
+                    where(UPDATED_AT).gt(lastUpdatedAt),
+                    where(UPDATED_AT).is(lastUpdatedAt).and("_id").gt(lastId)));
+        }
+
+        return query
+                .with(Sort.by(UPDATED_AT, "_id"))
+                .limit(batchSize);
+    }
+
+    /**
+     * Copies a batch into the archive collection, then removes it from the task collection.
+     *
+     * @param tasks The raw task documents of the batch.
+     * @param taskCollection The name of the task collection.
+     */
+    private void moveToArchive(List<Document> tasks, String taskCollection) {
+        final Date archivedAt = new Date();
+        final BulkOperations archiveOps = mongoTemplate
+                .bulkOps(BulkOperations.BulkMode.UNORDERED, archiveCollection);
+        for (Document task : tasks) {
+            archiveOps.replaceOne(
+                    new Query(where("_id").is(task.get("_id"))),
+                    new Document(task).append("archivedAt", archivedAt),
+                    FindAndReplaceOptions.options().upsert());
+        }
+        archiveOps.execute();
+
+        mongoTemplate.remove(new Query(where("_id").in(tasks.stream().map(task -> task.get("_id")).toList())
+                .and("objStatus").is(ObjStatus.DELETED)), taskCollection);
+    }
+
+    /**
+     * Releases the space freed by a run back to the operating system. Off by default:
+     * WiredTiger reuses freed space for new documents anyway.
+     *
+     * @param taskCollection The name of the task collection.
+     */
+    private void compactIfEnabled(String taskCollection) {
+        if (!compact) {
+            return;
+        }
+        final Instant start = Instant.now();
+        mongoTemplate.executeCommand(new Document("compact", taskCollection));
+        log.info("Compacted {} in {}", taskCollection, Duration.between(start, Instant.now()));
+    }
+}
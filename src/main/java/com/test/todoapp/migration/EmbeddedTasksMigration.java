@@ -0,0 +1,105 @@
+package com.test.todoapp.migration;
+
+import com.test.todoapp.model.entity.Task;
+import com.test.todoapp.model.entity.User;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+/**
+ * Online migration that removes the legacy embedded {@code tasks} array from user documents.
+ * Embedded tasks missing from the task collection are copied there first, so the task
+ * collection stays the single source of truth. The migration runs in small batches in the
+ * background and is idempotent, so it can be interrupted and resumed at any time.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EmbeddedTasksMigration implements ApplicationRunner {
+
+    private static final String TASKS_FIELD = "tasks";
+
+    private final MongoTemplate mongoTemplate;
+
+    @Value("${application.migration.embedded-tasks.enabled:true}")
+    private boolean enabled;
+
+    @Value("${application.migration.embedded-tasks.batch-size:100}")
+    private int batchSize;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!enabled) {
+            return;
+        }
+
+        final Thread worker = new Thread(this::migrate, "embedded-tasks-migration");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    /**
+     * Migrates user documents batch by batch until none carries an embedded task array.
+     */
+    void migrate() {
+        final String userCollection = mongoTemplate.getCollectionName(User.class);
+        final String taskCollection = mongoTemplate.getCollectionName(Task.class);
+        long migrated = 0;
+
+        try {
+            List<Document> users;
+            do {
+                final Query query = new Query(where(TASKS_FIELD).exists(true)).limit(batchSize);
+                query.fields().include("_id").include(TASKS_FIELD);
+                users = mongoTemplate.find(query, Document.class, userCollection);
+
+                for (Document user : users) {
+                    migrateUser(user, userCollection, taskCollection);
+                    migrated++;
+                }
+            } while (!users.isEmpty());
+
+            if (migrated > 0) {
+                log.info("Removed embedded tasks from {} user documents", migrated);
+            }
+        } catch (RuntimeException ex) {
+            log.error("Embedded tasks migration stopped after {} user documents", migrated, ex);
+        }
+    }
+
+    /**
+     * Copies the embedded tasks of a user that are missing from the task collection,
+     * then unsets the embedded array.
+     *
+     * @param user The raw user document with its embedded tasks.
+     * @param userCollection The name of the user collection.
+     * @param taskCollection The name of the task collection.
+     */
+    private void migrateUser(Document user, String userCollection, String taskCollection) {
+        final List<Document> tasks = user.getList(TASKS_FIELD, Document.class, List.of());
+
+        for (Document task : tasks) {
+            final Object taskId = task.get("_id");
+            if (taskId != null && !mongoTemplate.exists(
+                    new Query(where("_id").is(taskId)), taskCollection)) {
+                mongoTemplate.insert(task, taskCollection);
+            }
+        }
+
+        mongoTemplate.updateFirst(
+                new Query(where("_id").is(user.get("_id"))),
+                new Update().unset(TASKS_FIELD),
+                userCollection);
+    }
+}
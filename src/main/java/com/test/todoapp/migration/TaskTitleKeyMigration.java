@@ -0,0 +1,88 @@
+package com.test.todoapp.migration;
+
+import com.test.todoapp.converter.TaskConverter;
+import com.test.todoapp.model.entity.Task;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+/**
+ * Online migration that backfills the normalized {@code titleKey} of tasks written
+ * before prefix search existed. Runs in the background in idempotent batches.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TaskTitleKeyMigration implements ApplicationRunner {
+
+    private static final String TITLE_KEY_FIELD = "titleKey";
+
+    private final MongoTemplate mongoTemplate;
+
+    @Value("${application.migration.title-key.enabled:true}")
+    private boolean enabled;
+
+    @Value("${application.migration.title-key.batch-size:500}")
+    private int batchSize;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!enabled) {
+            return;
+        }
+
+        final Thread worker = new Thread(this::migrate, "title-key-migration");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    /**
+     * Sets the title key of tasks batch by batch until every task has one.
+     */
+    void migrate() {
+        final String taskCollection = mongoTemplate.getCollectionName(Task.class);
+        long migrated = 0;
+
+        try {
+            List<Document> tasks;
+            do {
+                final Query query = new Query(where(TITLE_KEY_FIELD).exists(false)).limit(batchSize);
+                query.fields().include("_id").include("title");
+                tasks = mongoTemplate.find(query, Document.class, taskCollection);
+
+                if (tasks.isEmpty()) {
+                    break;
+                }
+
+                final BulkOperations bulkOps = mongoTemplate
+                        .bulkOps(BulkOperations.BulkMode.UNORDERED, taskCollection);
+                for (Document task : tasks) {
+                    bulkOps.updateOne(
+                            new Query(where("_id").is(task.get("_id"))),
+                            new Update().set(TITLE_KEY_FIELD,
+                                    TaskConverter.convertToTitleKey(task.getString("title"))));
+                }
+                bulkOps.execute();
+                migrated += tasks.size();
+            } while (tasks.size() == batchSize);
+
+            if (migrated > 0) {
+                log.info("Backfilled title key of {} tasks", migrated);
+            }
+        } catch (RuntimeException ex) {
+            log.error("Title key migration stopped after {} tasks", migrated, ex);
+        }
+    }
+}
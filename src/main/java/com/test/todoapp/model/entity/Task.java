@@ -5,21 +5,43 @@ import lombok.*;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.annotation.Version;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
+import org.springframework.data.mongodb.core.index.IndexDirection;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.index.TextIndexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import java.time.LocalDateTime;
 
 @Document
+@CompoundIndexes({
+        @CompoundIndex(name = "user_status_created_idx",
+                def = "{'userId': 1, 'objStatus': 1, 'createdAt': 1}",
+                partialFilter = "{'objStatus': 'ACTIVE'}"),
+        @CompoundIndex(name = "status_created_idx",
+                def = "{'objStatus': 1, 'createdAt': 1}",
+                partialFilter = "{'objStatus': 'ACTIVE'}"),
+        @CompoundIndex(name = "deleted_updated_idx",
+                def = "{'updatedAt': 1, '_id': 1}",
+                partialFilter = "{'objStatus': 'DELETED'}")
+})
 @NoArgsConstructor
 @AllArgsConstructor
-@Getter @Builder
+@Getter @Builder(toBuilder = true)
 public class Task {
 
     @Id
     private String id;
 
+    @TextIndexed
     private String title;
 
+    @Setter
+    @Indexed
+    private String titleKey;
+
     private String description;
 
     private String userId;
@@ -28,8 +50,12 @@ public class Task {
     private LocalDateTime createdAt;
 
     @LastModifiedDate
+    @Indexed(direction = IndexDirection.DESCENDING)
     private LocalDateTime  updatedAt;
 
     @Setter
     private ObjStatus objStatus;
+
+    @Version
+    private Long version;
 }
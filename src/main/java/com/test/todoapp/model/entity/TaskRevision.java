@@ -0,0 +1,23 @@
+package com.test.todoapp.model.entity;
+
+import lombok.*;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+/**
+ * A counter incremented by every write to the tasks of a user, or to any task for the
+ * {@link #ALL} document. The ETags of the task listings are derived from it.
+ */
+@Document
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder @Getter
+public class TaskRevision {
+
+    public static final String ALL = "*";
+
+    @Id
+    private String id;
+
+    private long revision;
+}
@@ -0,0 +1,33 @@
+package com.test.todoapp.model.entity;
+
+import com.test.todoapp.model.enums.RevocationType;
+import lombok.*;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+
+/**
+ * A revoked token (by token ID) or a revoked subject (every token issued to it up to
+ * {@code createdAt}). Removed by a TTL index once every token it covers has expired.
+ */
+@Document
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder @Getter
+public class TokenRevocation {
+
+    @Id
+    private String id;
+
+    private RevocationType type;
+
+    private String value;
+
+    @Indexed
+    private Instant createdAt;
+
+    @Indexed(expireAfter = "0s")
+    private Instant expiresAt;
+}
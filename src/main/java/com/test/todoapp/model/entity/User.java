@@ -13,7 +13,8 @@ import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 
 import java.time.LocalDateTime;
-import java.util.*;
+import java.util.Collection;
+import java.util.Collections;
 
 @Document
 @AllArgsConstructor
@@ -34,8 +35,6 @@ public class User implements UserDetails {
 
     private Role role;
 
-    private Set<Task> tasks = new HashSet<>();
-
     @CreatedDate
     private LocalDateTime createdAt;
 
@@ -0,0 +1,5 @@
+package com.test.todoapp.model.enums;
+
+public enum BulkItemStatus {
+    CREATED, UPDATED, DELETED, NOT_FOUND, CONFLICT
+}
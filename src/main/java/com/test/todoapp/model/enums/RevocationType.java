@@ -0,0 +1,6 @@
+package com.test.todoapp.model.enums;
+
+public enum RevocationType {
+    TOKEN,
+    SUBJECT
+}
@@ -0,0 +1,5 @@
+package com.test.todoapp.model.enums;
+
+public enum TaskChangeType {
+    CREATED, UPDATED, DELETED
+}
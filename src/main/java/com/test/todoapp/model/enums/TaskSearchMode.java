@@ -0,0 +1,5 @@
+package com.test.todoapp.model.enums;
+
+public enum TaskSearchMode {
+    TEXT, PREFIX, REGEX
+}
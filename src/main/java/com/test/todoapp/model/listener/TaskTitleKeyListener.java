@@ -0,0 +1,20 @@
+package com.test.todoapp.model.listener;
+
+import com.test.todoapp.converter.TaskConverter;
+import com.test.todoapp.model.entity.Task;
+import org.springframework.data.mongodb.core.mapping.event.AbstractMongoEventListener;
+import org.springframework.data.mongodb.core.mapping.event.BeforeConvertEvent;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps the normalized title key of a task in sync with its title on every write.
+ */
+@Component
+public class TaskTitleKeyListener extends AbstractMongoEventListener<Task> {
+
+    @Override
+    public void onBeforeConvert(BeforeConvertEvent<Task> event) {
+        final Task task = event.getSource();
+        task.setTitleKey(TaskConverter.convertToTitleKey(task.getTitle()));
+    }
+}
@@ -0,0 +1,47 @@
+package com.test.todoapp.repository;
+
+import com.test.todoapp.dtos.task.TaskCursor;
+import com.test.todoapp.model.entity.Task;
+import com.test.todoapp.model.enums.TaskSearchMode;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+
+public interface TaskRepositoryCustom {
+
+    List<Task> findAllActiveWithFields(String userId, Set<String> fields);
+
+    Page<Task> searchActiveByTitle(String title, String userId,
+                                   TaskSearchMode mode, Pageable pageable, Set<String> fields);
+
+    Slice<Task> searchActiveSliceByTitle(String title, String userId,
+                                         TaskSearchMode mode, Pageable pageable, Set<String> fields);
+
+    List<Task> findActiveByTitleAfterCursor(String title, String userId, TaskSearchMode mode,
+                                            String sortBy, Sort.Direction direction,
+                                            TaskCursor after, int limit, Set<String> fields);
+
+    long countActiveByTitle(String title, String userId, TaskSearchMode mode);
+
+    long countActiveByTitleUpTo(String title, String userId, TaskSearchMode mode, long limit);
+
+    Stream<Task> streamAllActive(String userId, int batchSize, Set<String> fields);
+
+    long findRevision(String userId);
+
+    void incrementRevisions(Collection<String> userIds);
+
+    Optional<Task> updateActiveById(String id, Long version, Task changes, LocalDateTime updatedAt);
+
+    long updateAllActiveById(Map<String, Task> changes, Map<String, Long> versions,
+                             LocalDateTime updatedAt);
+}
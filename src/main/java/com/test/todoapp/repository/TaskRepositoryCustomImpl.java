@@ -0,0 +1,370 @@
+package com.test.todoapp.repository;
+
+import com.test.todoapp.converter.TaskConverter;
+import com.test.todoapp.dtos.task.TaskCursor;
+import com.test.todoapp.model.entity.Task;
+import com.test.todoapp.model.entity.TaskRevision;
+import com.test.todoapp.model.enums.ObjStatus;
+import com.test.todoapp.model.enums.TaskSearchMode;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.TextCriteria;
+import org.springframework.data.mongodb.core.query.TextQuery;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+/**
+ * Custom {@link TaskRepository} queries that cannot be expressed with {@code @Query}.
+ */
+@RequiredArgsConstructor
+public class TaskRepositoryCustomImpl implements TaskRepositoryCustom {
+
+    private static final String ID = "id";
+
+    private final MongoTemplate mongoTemplate;
+
+    /**
+     * Finds the active tasks, reading only the selected fields of each document.
+     *
+     * @param userId The ID of the user, or null for the tasks of all users.
+     * @param fields The fields to read, or null to read whole documents.
+     * @return The active tasks, with unselected fields left null.
+     */
+    @Override
+    public List<Task> findAllActiveWithFields(String userId, Set<String> fields) {
+        final Query query = new Query(where("objStatus").is(ObjStatus.ACTIVE));
+        if (userId != null) {
+            query.addCriteria(where("userId").is(userId));
+        }
+        includeFields(query, fields);
+
+        return mongoTemplate.find(query, Task.class);
+    }
+
+    /**
+     * Searches active tasks by title with offset pagination.
+     * In {@link TaskSearchMode#TEXT} mode the results are ranked by relevance first.
+     *
+     * @param title The title to search for.
+     * @param userId The ID of the user, or null to search all users.
+     * @param mode The search mode.
+     * @param pageable The pagination and sorting parameters.
+     * @param fields The fields to read, or null to read whole documents.
+     * @return The page of matching tasks.
+     */
+    @Override
+    public Page<Task> searchActiveByTitle(String title, String userId,
+                                          TaskSearchMode mode, Pageable pageable,
+                                          Set<String> fields) {
+        final List<Task> tasks = mongoTemplate.find(
+                pageQuery(title, userId, mode, pageable, fields), Task.class);
+
+        return PageableExecutionUtils.getPage(tasks, pageable,
+                () -> mongoTemplate.count(searchQuery(title, userId, mode), Task.class));
+    }
+
+    /**
+     * Searches active tasks by title with offset pagination, without counting them.
+     * One extra row is read to know whether a next page exists.
+     *
+     * @param title The title to search for.
+     * @param userId The ID of the user, or null to search all users.
+     * @param mode The search mode.
+     * @param pageable The pagination and sorting parameters.
+     * @param fields The fields to read, or null to read whole documents.
+     * @return The slice of matching tasks.
+     */
+    @Override
+    public Slice<Task> searchActiveSliceByTitle(String title, String userId,
+                                                TaskSearchMode mode, Pageable pageable,
+                                                Set<String> fields) {
+        final Query query = pageQuery(title, userId, mode, pageable, fields);
+        query.limit(pageable.getPageSize() + 1);
+
+        final List<Task> tasks = mongoTemplate.find(query, Task.class);
+        final boolean hasNext = tasks.size() > pageable.getPageSize();
+
+        return new SliceImpl<>(hasNext ? tasks.subList(0, pageable.getPageSize()) : tasks,
+                pageable, hasNext);
+    }
+
+    /**
+     * Finds active tasks matching a title, positioned after a keyset cursor.
+     * The results are sorted by the given field with the ID as tie-breaker, so no
+     * skip or count is needed to reach deep pages.
+     *
+     * @param title The title to search for.
+     * @param userId The ID of the user, or null to search all users.
+     * @param mode The search mode.
+     * @param sortBy The field to sort by.
+     * @param direction The sort direction.
+     * @param after The cursor of the last row of the previous page, or null for the first page.
+     * @param limit The maximum number of tasks to return.
+     * @param fields The fields to read, or null to read whole documents. The sort field is
+     *               always read, since the next cursor is built from it.
+     * @return The matching tasks in sort order.
+     */
+    @Override
+    public List<Task> findActiveByTitleAfterCursor(String title, String userId, TaskSearchMode mode,
+                                                   String sortBy, Sort.Direction direction,
+                                                   TaskCursor after, int limit,
+                                                   Set<String> fields) {
+        final Query query = searchQuery(title, userId, mode);
+        if (after != null) {
+            query.addCriteria(new Criteria().andOperator(keysetCriteria(sortBy, direction, after)));
+        }
+        includeFields(query, fields, sortBy);
+
+        final Sort sort = ID.equals(sortBy) ?
+                Sort.by(direction, ID) :
+                Sort.by(direction, sortBy).and(Sort.by(direction, ID));
+
+        return mongoTemplate.find(query.with(sort).limit(limit), Task.class);
+    }
+
+    /**
+     * Counts the active tasks matching a title.
+     *
+     * @param title The title to search for.
+     * @param userId The ID of the user, or null to count all users.
+     * @param mode The search mode.
+     * @return The number of matching tasks.
+     */
+    @Override
+    public long countActiveByTitle(String title, String userId, TaskSearchMode mode) {
+        return mongoTemplate.count(searchQuery(title, userId, mode), Task.class);
+    }
+
+    /**
+     * Counts the active tasks matching a title, stopping at a limit. The count only walks
+     * as many index keys as the limit, however many tasks match.
+     *
+     * @param title The title to search for.
+     * @param userId The ID of the user, or null to count all users.
+     * @param mode The search mode.
+     * @param limit The maximum number to count.
+     * @return The number of matching tasks, at most the limit.
+     */
+    @Override
+    public long countActiveByTitleUpTo(String title, String userId, TaskSearchMode mode, long limit) {
+        return mongoTemplate.count(
+                searchQuery(title, userId, mode).limit(Math.toIntExact(limit)), Task.class);
+    }
+
+    /**
+     * Streams active tasks from a server-side cursor, fetching them batch by batch.
+     * The caller must close the returned stream to release the cursor.
+     *
+     * @param userId The ID of the user, or null to stream the tasks of all users.
+     * @param batchSize The number of documents fetched per cursor round trip.
+     * @param fields The fields to read, or null to read whole documents.
+     * @return A lazy {@link Stream} of tasks.
+     */
+    @Override
+    public Stream<Task> streamAllActive(String userId, int batchSize, Set<String> fields) {
+        final Query query = new Query(where("objStatus").is(ObjStatus.ACTIVE));
+        if (userId != null) {
+            query.addCriteria(where("userId").is(userId));
+        }
+        query.cursorBatchSize(batchSize);
+        includeFields(query, fields);
+
+        return mongoTemplate.stream(query, Task.class);
+    }
+
+    /**
+     * Reads the revision of a task collection, incremented by every create, update and soft
+     * delete, so it changes whatever the clocks of the instances and however close the writes.
+     *
+     * @param userId The ID of the user, or null for the tasks of all users.
+     * @return The revision, or 0 if no task was written since revisions are counted.
+     */
+    @Override
+    public long findRevision(String userId) {
+        final TaskRevision revision = mongoTemplate.findById(
+                userId == null ? TaskRevision.ALL : userId, TaskRevision.class);
+        return revision == null ? 0 : revision.getRevision();
+    }
+
+    /**
+     * Increments the revisions of the given users and of all tasks with one unordered bulk
+     * of upserts. Called once the write is acknowledged, so a revision is never read before
+     * the tasks it stands for.
+     *
+     * @param userIds The IDs of the users whose tasks were written.
+     */
+    @Override
+    public void incrementRevisions(Collection<String> userIds) {
+        final BulkOperations bulkOps =
+                mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, TaskRevision.class);
+        Stream.concat(userIds.stream(), Stream.of(TaskRevision.ALL)).distinct()
+                .forEach(id -> bulkOps.upsert(new Query(where(ID).is(id)),
+                        new Update().inc("revision", 1)));
+        bulkOps.execute();
+    }
+
+    /**
+     * Applies new values to an active task with a single findAndModify. When a version is
+     * given, the update only applies if the stored version still equals it.
+     *
+     * @param id The ID of the task.
+     * @param version The version the caller last read, or null to update unconditionally.
+     * @param changes The Task holding the new title, description and user ID.
+     * @param updatedAt The modification date to store.
+     * @return The task as it was before the update, or empty if no active task with this
+     *         ID and version exists.
+     */
+    @Override
+    public Optional<Task> updateActiveById(String id, Long version, Task changes,
+                                           LocalDateTime updatedAt) {
+        final Query query = new Query(where(ID).is(id).and("objStatus").is(ObjStatus.ACTIVE));
+        if (version != null) {
+            query.addCriteria(where("version").is(version));
+        }
+
+        return Optional.ofNullable(mongoTemplate.findAndModify(
+                query, TaskConverter.convertToUpdate(changes, updatedAt), Task.class));
+    }
+
+    /**
+     * Applies new values to several active tasks in place with one unordered bulk write.
+     * Each update only applies if the task is still active and its stored version still
+     * equals the expected one; the others are left untouched.
+     *
+     * @param changes The Tasks holding the new title, description and user ID, by task ID.
+     * @param versions The version each task is expected to have, by task ID.
+     * @param updatedAt The modification date to store.
+     * @return The number of tasks updated.
+     */
+    @Override
+    public long updateAllActiveById(Map<String, Task> changes, Map<String, Long> versions,
+                                    LocalDateTime updatedAt) {
+        final BulkOperations bulkOps =
+                mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Task.class);
+        changes.forEach((id, task) -> bulkOps.updateOne(
+                new Query(where(ID).is(id)
+                        .and("objStatus").is(ObjStatus.ACTIVE)
+                        .and("version").is(versions.get(id))),
+                TaskConverter.convertToUpdate(task, updatedAt)));
+
+        return bulkOps.execute().getMatchedCount();
+    }
+
+    /**
+     * Restricts a query to the selected fields, so unselected ones are not sent by the server.
+     * The ID is always returned.
+     *
+     * @param query The query to restrict.
+     * @param fields The selected fields, or null to read whole documents.
+     * @param required Fields the caller needs whatever the selection.
+     */
+    private void includeFields(Query query, Set<String> fields, String... required) {
+        if (fields == null) {
+            return;
+        }
+        query.fields().include(fields.toArray(String[]::new)).include(required);
+    }
+
+    /**
+     * Builds the query of one offset page of a title search, ranked by relevance first in
+     * {@link TaskSearchMode#TEXT} mode.
+     *
+     * @param title The title to search for.
+     * @param userId The ID of the user, or null to search all users.
+     * @param mode The search mode.
+     * @param pageable The pagination and sorting parameters.
+     * @param fields The fields to read, or null to read whole documents.
+     * @return The page {@link Query}.
+     */
+    private Query pageQuery(String title, String userId, TaskSearchMode mode,
+                            Pageable pageable, Set<String> fields) {
+        final Query query = searchQuery(title, userId, mode);
+        if (query instanceof TextQuery textQuery) {
+            textQuery.sortByScore();
+        }
+        query.with(pageable);
+        includeFields(query, fields);
+        return query;
+    }
+
+    /**
+     * Builds the filter of a title search.
+     * TEXT uses the text index on title, PREFIX a range on the indexed normalized title key,
+     * and REGEX a case-insensitive match on the escaped input, which cannot use an index.
+     *
+     * @param title The title to search for.
+     * @param userId The ID of the user, or null to search all users.
+     * @param mode The search mode.
+     * @return The search {@link Query}.
+     */
+    private Query searchQuery(String title, String userId, TaskSearchMode mode) {
+        final Query query = switch (mode) {
+            case TEXT -> TextQuery.queryText(
+                    TextCriteria.forDefaultLanguage().matching(title));
+            case PREFIX -> {
+                final String key = TaskConverter.convertToTitleKey(title);
+                final String upperBound = TaskConverter.convertToTitleKeyUpperBound(key);
+                final Criteria criteria = where("titleKey").gte(key);
+                yield new Query(upperBound == null ? criteria : criteria.lt(upperBound));
+            }
+            case REGEX -> new Query(where("title").regex(Pattern.quote(title), "i"));
+        };
+
+        query.addCriteria(where("objStatus").is(ObjStatus.ACTIVE));
+        if (userId != null) {
+            query.addCriteria(where("userId").is(userId));
+        }
+        return query;
+    }
+
+    /**
+     * Builds the keyset predicate selecting the rows strictly after the cursor.
+     * Nulls sort first in ascending order and last in descending order.
+     *
+     * @param sortBy The field to sort by.
+     * @param direction The sort direction.
+     * @param after The cursor of the last row of the previous page.
+     * @return The keyset {@link Criteria}.
+     */
+    private Criteria keysetCriteria(String sortBy, Sort.Direction direction, TaskCursor after) {
+        final boolean asc = direction.isAscending();
+
+        if (ID.equals(sortBy)) {
+            return asc ? where(ID).gt(after.lastId()) : where(ID).lt(after.lastId());
+        }
+
+        final Criteria sameValueAfterId = asc ?
+                where(sortBy).is(after.lastValue()).and(ID).gt(after.lastId()) :
+                where(sortBy).is(after.lastValue()).and(ID).lt(after.lastId());
+
+        if (after.lastValue() == null) {
+            return asc ?
+                    new Criteria().orOperator(sameValueAfterId, where(sortBy).ne(null)) :
+                    sameValueAfterId;
+        }
+
+        return asc ?
+                new Criteria().orOperator(where(sortBy).gt(after.lastValue()), sameValueAfterId) :
+                new Criteria().orOperator(where(sortBy).lt(after.lastValue()), sameValueAfterId,
+                        where(sortBy).is(null));
+    }
+}
@@ -0,0 +1,16 @@
+package com.test.todoapp.repository;
+
+import com.test.todoapp.model.entity.TokenRevocation;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+
+@Repository
+public interface TokenRevocationRepository extends MongoRepository<TokenRevocation, String> {
+
+    @Query(value = "{'createdAt': {$gt: ?0}}", sort = "{'createdAt': 1}")
+    List<TokenRevocation> findAllCreatedAfter(Instant createdAfter);
+}
@@ -5,6 +5,8 @@ import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.data.mongodb.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -13,9 +15,19 @@ public interface UserRepository extends MongoRepository<User, String> {
     @Query("{'email': ?0, 'objStatus': 'ACTIVE'}")
     Optional<User> findActiveByEmail(String email);
 
+    @Query(value = "{'email': ?0, 'objStatus': 'ACTIVE'}",
+            fields = "{'email': 1, 'password': 1, 'role': 1, 'objStatus': 1}")
+    Optional<User> findActivePrincipalByEmail(String email);
+
     boolean existsByEmail(String email);
 
     @Query("{'_id': ?0, 'objStatus': 'ACTIVE'}")
     Optional<User> findActiveById(String id);
 
+    @Query(value = "{'_id': ?0, 'objStatus': 'ACTIVE'}", exists = true)
+    boolean existsActiveById(String id);
+
+    @Query(value = "{'_id': {$in: ?0}, 'objStatus': 'ACTIVE'}", fields = "{'_id': 1}")
+    List<User> findActiveByIdIn(Collection<String> ids);
+
 }
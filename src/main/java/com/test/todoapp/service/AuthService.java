@@ -10,4 +10,6 @@ public interface AuthService {
     UserRes registerUser(RegisterReq req);
 
     AuthRes loginUser(LoginReq req);
+
+    void logoutUser(String token);
 }
@@ -1,27 +1,57 @@
 package com.test.todoapp.service;
 
+import com.test.todoapp.dtos.CursorPageRes;
 import com.test.todoapp.dtos.PageRes;
+import com.test.todoapp.dtos.task.BulkItemRes;
+import com.test.todoapp.dtos.task.TaskListRes;
 import com.test.todoapp.dtos.task.TaskReq;
 import com.test.todoapp.dtos.task.TaskRes;
+import com.test.todoapp.dtos.task.TaskUpdateItemReq;
 
+import java.util.List;
 import java.util.Set;
+import java.util.stream.Stream;
 
 public interface TaskService {
 
-    Set<TaskRes> getAllTasks();
+    Set<TaskRes> getAllTasks(Set<String> fields);
+
+    Stream<TaskRes> streamAllTasks(Set<String> fields);
 
     TaskRes getTaskById(String id);
 
-    Set<TaskRes> getAllTasksByUserId(String userId);
+    TaskListRes getAllTasksByUserId(String userId);
+
+    Stream<TaskRes> streamAllTasksByUserId(String userId, Set<String> fields);
 
     TaskRes getTaskByIdAndUserId(String id, String userId);
 
-    PageRes<TaskRes> searchAndFilterTasks(String title, int page, int size,
-                                          String sortBy, String sortDir);
+    PageRes<TaskRes> searchAndFilterTasks(String title, String mode, String count,
+                                          int page, int size,
+                                          String sortBy, String sortDir, Set<String> fields);
+
+    PageRes<TaskRes> searchAndFilterTasksUser(String title, String mode, String count,
+                                              String userId, int page, int size,
+                                              String sortBy, String sortDir,
+                                              Set<String> fields);
+
+    CursorPageRes<TaskRes> searchAndFilterTasksByCursor(String title, String mode,
+                                                        String cursor, int size,
+                                                        String sortBy, String sortDir,
+                                                        boolean withTotal, Set<String> fields);
+
+    CursorPageRes<TaskRes> searchAndFilterTasksUserByCursor(String title, String mode,
+                                                            String userId,
+                                                            String cursor, int size,
+                                                            String sortBy, String sortDir,
+                                                            boolean withTotal,
+                                                            Set<String> fields);
 
-    PageRes<TaskRes> searchAndFilterTasksUser(String title,String userId,
-                                              int page, int size,
-                                              String sortBy, String sortDir);
+    String getTaskETag(String id);
+
+    String getAllTasksETag();
+
+    String getAllTasksByUserIdETag(String userId);
 
     TaskRes createTask(TaskReq req);
 
@@ -29,4 +59,10 @@ public interface TaskService {
 
     void deleteTaskById(String id);
 
+    List<BulkItemRes> createTasks(List<TaskReq> reqs);
+
+    List<BulkItemRes> updateTasks(List<TaskUpdateItemReq> items);
+
+    List<BulkItemRes> deleteTasks(List<String> ids);
+
 }
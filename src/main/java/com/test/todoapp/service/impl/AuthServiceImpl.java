@@ -1,6 +1,7 @@
 package com.test.todoapp.service.impl;
 
 import com.test.todoapp.config.security.JwtUtil;
+import com.test.todoapp.config.security.TokenRevocationService;
 import com.test.todoapp.converter.AuthConverter;
 import com.test.todoapp.converter.UserConverter;
 import com.test.todoapp.dtos.auth.AuthRes;
@@ -10,16 +11,20 @@ import com.test.todoapp.dtos.user.UserRes;
 import com.test.todoapp.exception.BadRequestException;
 import com.test.todoapp.exception.ErrorCode;
 import com.test.todoapp.exception.NotFoundException;
+import com.test.todoapp.exception.ServiceUnavailableException;
 import com.test.todoapp.model.entity.User;
+import com.test.todoapp.repository.TaskRepository;
 import com.test.todoapp.repository.UserRepository;
 import com.test.todoapp.service.AuthService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.authentication.AuthenticationManager;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.HashSet;
+
 /**
  * Implementation of the {@link AuthService} interface.
  * This class provides methods for user authentication and registration.
@@ -30,11 +35,15 @@ public class AuthServiceImpl implements AuthService {
 
     private final UserRepository userRepository;
 
+    private final TaskRepository taskRepository;
+
     private final JwtUtil jwtUtil;
 
+    private final TokenRevocationService tokenRevocationService;
+
     private final PasswordEncoder passwordEncoder;
 
-    private final AuthenticationManager authManager;
+    private final MeterRegistry meterRegistry;
 
     /**
      * Registers a new user in the system.
@@ -54,37 +63,62 @@ public class AuthServiceImpl implements AuthService {
 
         final User user = AuthConverter.convertToEntity(req);
 
-        user.setPassword(passwordEncoder.encode(req.getPassword()));
+        user.setPassword(passwordTimer("hash")
+                .record(() -> passwordEncoder.encode(req.getPassword())));
 
         return UserConverter.convertToDto(userRepository.save(user));
     }
 
     /**
      * Authenticates a user and generates a JWT token upon successful login.
+     * The user is loaded once and the password is verified once, on the bounded hashing pool.
      *
      * @param req The login request containing user credentials.
      * @return An {@link AuthRes} object containing the JWT token and user details.
      * @throws BadRequestException If the password is incorrect.
      * @throws NotFoundException If the user is not found.
+     * @throws ServiceUnavailableException If the hashing pool is saturated.
      */
     @Override
     @Transactional
     public AuthRes loginUser(LoginReq req) {
         final User user = findUserByEmail(req.getEmail());
 
-        if(!passwordEncoder.matches(req.getPassword(),
-                user.getPassword())){
+        final boolean matches = passwordTimer("verify")
+                .record(() -> passwordEncoder.matches(req.getPassword(), user.getPassword()));
+        if(!matches){
             throw new BadRequestException(
                     ErrorCode.PASSWORD_INCORRECT.getErrCode(),
                     ErrorCode.PASSWORD_INCORRECT.getErrMessage());
         }
 
-        authManager.authenticate(
-                new UsernamePasswordAuthenticationToken(req.getEmail(),
-                        req.getPassword()));
-
         return AuthConverter
-                .covertToDto(jwtUtil.generateToken(user), user);
+                .covertToDto(jwtUtil.generateToken(user), user,
+                        new HashSet<>(taskRepository.findAllActiveByUserId(user.getId())));
+    }
+
+    /**
+     * Logs a user out by revoking the token of the request until it expires.
+     * The token was already authenticated by the security filter chain.
+     *
+     * @param token The JWT of the request.
+     */
+    @Override
+    public void logoutUser(String token) {
+        tokenRevocationService.revokeToken(jwtUtil.parseToken(token));
+    }
+
+    /**
+     * Helper method to get the timer of a password hashing operation.
+     *
+     * @param operation The operation: hash or verify.
+     * @return The {@link Timer} of the operation.
+     */
+    private Timer passwordTimer(String operation) {
+        return Timer.builder("security.password")
+                .description("BCrypt work done by authentication")
+                .tag("operation", operation)
+                .register(meterRegistry);
     }
 
     /**
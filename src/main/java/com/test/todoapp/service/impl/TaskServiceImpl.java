@@ -1,27 +1,60 @@
 package com.test.todoapp.service.impl;
 
+import com.test.todoapp.cache.SearchCountCache;
+import com.test.todoapp.cache.TaskByIdCache;
+import com.test.todoapp.cache.UserTaskListCache;
+import com.test.todoapp.converter.CursorConverter;
 import com.test.todoapp.converter.TaskConverter;
+import com.test.todoapp.dtos.CursorPageRes;
 import com.test.todoapp.dtos.PageRes;
+import com.test.todoapp.dtos.task.BulkItemRes;
+import com.test.todoapp.dtos.task.TaskChangeEvent;
+import com.test.todoapp.dtos.task.TaskCursor;
+import com.test.todoapp.dtos.task.TaskListRes;
 import com.test.todoapp.dtos.task.TaskReq;
 import com.test.todoapp.dtos.task.TaskRes;
+import com.test.todoapp.dtos.task.TaskUpdateItemReq;
+import com.test.todoapp.event.TaskEventBus;
+import com.test.todoapp.exception.BadRequestException;
+import com.test.todoapp.exception.ConflictException;
+import com.test.todoapp.exception.CustomException;
 import com.test.todoapp.exception.ErrorCode;
 import com.test.todoapp.exception.NotFoundException;
+import com.test.todoapp.exception.ServiceUnavailableException;
+import com.test.todoapp.ingest.TaskIngestPipeline;
 import com.test.todoapp.model.entity.Task;
 import com.test.todoapp.model.entity.User;
-import com.test.todoapp.model.enums.ObjStatus;
+import com.test.todoapp.model.enums.BulkItemStatus;
+import com.test.todoapp.model.enums.CountStrategy;
+import com.test.todoapp.model.enums.TaskChangeType;
+import com.test.todoapp.model.enums.TaskSearchMode;
 import com.test.todoapp.repository.TaskRepository;
 import com.test.todoapp.repository.UserRepository;
 import com.test.todoapp.service.TaskService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Implementation of the {@link TaskService} interface.
@@ -36,19 +69,61 @@ public class TaskServiceImpl implements TaskService {
 
     private final UserRepository userRepository;
 
+    private final UserTaskListCache userTaskListCache;
+
+    private final TaskByIdCache taskByIdCache;
+
+    private final SearchCountCache searchCountCache;
+
+    private final TaskIngestPipeline taskIngestPipeline;
+
+    private final TaskEventBus taskEventBus;
+
+    @Value("${application.events.change-stream.enabled:false}")
+    private boolean changeStreamEvents;
+
+    @Value("${application.search.default-mode:prefix}")
+    private String defaultSearchMode;
+
+    @Value("${application.search.regex-enabled:true}")
+    private boolean regexSearchEnabled;
+
+    @Value("${application.search.count.default-strategy:exact}")
+    private String defaultCountStrategy;
+
+    @Value("${application.search.count.estimate-cap:1000}")
+    private long countEstimateCap;
+
+    @Value("${application.stream.batch-size:500}")
+    private int streamBatchSize;
+
     /**
      * Retrieves all active tasks.
      *
+     * @param fields The task properties to read, or null to read all of them.
      * @return A set of {@link TaskRes} objects representing all active tasks.
      */
     @Override
-    public Set<TaskRes> getAllTasks() {
+    public Set<TaskRes> getAllTasks(Set<String> fields) {
         return TaskConverter.convertToDtoList(new HashSet<>(
-                taskRepository.findAllActive()));
+                taskRepository.findAllActiveWithFields(null, fields)));
+    }
+
+    /**
+     * Streams all active tasks from a database cursor without loading them in memory.
+     * The caller must close the returned stream.
+     *
+     * @param fields The task properties to read, or null to read all of them.
+     * @return A lazy stream of {@link TaskRes} objects representing all active tasks.
+     */
+    @Override
+    public Stream<TaskRes> streamAllTasks(Set<String> fields) {
+        return taskRepository.streamAllActive(null, streamBatchSize, fields)
+                .map(TaskConverter::convertToDto);
     }
 
     /**
-     * Retrieves a task by its ID.
+     * Retrieves a task by its ID, from the {@link TaskByIdCache} when possible.
      *
      * @param id The ID of the task to retrieve.
      * @return A {@link TaskRes} object representing the task.
@@ -56,24 +131,49 @@ public class TaskServiceImpl implements TaskService {
      */
     @Override
     public TaskRes getTaskById(String id) {
-        return TaskConverter.convertToDto(findTaskById(id));
+        return findCachedTask(id)
+                .orElseThrow(() -> new NotFoundException(
+                        ErrorCode.TASK_NOT_FOUND.getErrMessage()));
     }
 
     /**
-     * Retrieves all active tasks associated with a specific user.
+     * Retrieves all active tasks associated with a specific user, with their ETag, from the
+     * {@link UserTaskListCache} when possible. The cache holds whole tasks, so a sparse
+     * fieldset of this listing is only applied when writing the response.
+     * <p>
+     * The ETag is cached with the tasks, so a stale entry is never validated against the
+     * newer state of the database. It is read before the tasks: a write landing between the
+     * two reads leaves an ETag older than the tasks, which only costs a full response later.
      *
      * @param userId The ID of the user.
-     * @return A set of {@link TaskRes} objects representing the user's tasks.
+     * @return The user's tasks and their ETag.
      */
     @Override
-    public Set<TaskRes> getAllTasksByUserId(String userId) {
-        return TaskConverter.convertToDtoList(new HashSet<>(
-                taskRepository.findAllActiveByUserId(userId)
-        ));
+    public TaskListRes getAllTasksByUserId(String userId) {
+        return userTaskListCache.get(userId, id -> {
+            final String eTag = toETag(taskRepository.findRevision(id));
+            return new TaskListRes(eTag, Set.copyOf(TaskConverter.convertToDtoList(
+                    new HashSet<>(taskRepository.findAllActiveByUserId(id)))));
+        });
+    }
+
+    /**
+     * Streams all active tasks of a user from a database cursor without loading them in memory.
+     * The caller must close the returned stream.
+     *
+     * @param userId The ID of the user.
+     * @param fields The task properties to read, or null to read all of them.
+     * @return A lazy stream of {@link TaskRes} objects representing the user's tasks.
+     */
+    @Override
+    public Stream<TaskRes> streamAllTasksByUserId(String userId, Set<String> fields) {
+        return taskRepository.streamAllActive(userId, streamBatchSize, fields)
+                .map(TaskConverter::convertToDto);
     }
 
     /**
-     * Retrieves a task by its ID and associated user ID.
+     * Retrieves a task by its ID and associated user ID, from the {@link TaskByIdCache}
+     * when possible.
      *
      * @param id The ID of the task.
      * @param userId The ID of the user.
@@ -82,119 +182,202 @@ public class TaskServiceImpl implements TaskService {
      */
     @Override
     public TaskRes getTaskByIdAndUserId(String id, String userId) {
-        return TaskConverter
-                .convertToDto(findTaskByIdAndUserId(id, userId));
+        return findCachedTask(id)
+                .filter(task -> userId.equals(task.userId()))
+                .orElseThrow(() -> new NotFoundException(
+                        ErrorCode.TASK_NOT_FOUND.getErrMessage()));
     }
 
     /**
      * Searches and filters tasks by title with pagination and sorting.
      *
      * @param title The title to search for.
+     * @param mode The search mode (TEXT, PREFIX or REGEX), or null for the default mode.
+     * @param count The count strategy (EXACT, CACHED, ESTIMATED or NONE), or null for the
+     *              default strategy.
      * @param page The page number for pagination.
      * @param size The number of items per page.
      * @param sortBy The field to sort by.
      * @param sortDir The direction of sorting (ASC or DESC).
+     * @param fields The task properties to read, or null to read all of them.
      * @return A {@link PageRes} object containing the filtered and paginated tasks.
      */
     @Override
-    public PageRes<TaskRes> searchAndFilterTasks(String title, int page,
-                                                 int size, String sortBy, String sortDir) {
-        final Page<Task> tasks = taskRepository
-                .findActiveByTitleContaining(
-                        title,
-                        setupPageRequest(page, size, sortBy, sortDir));
-
-        final Set<TaskRes> taskRes = tasks
-                .stream()
-                .map(TaskConverter::convertToDto)
-                .collect(Collectors.toSet());
-
-        return new PageRes<>(
-                taskRes,
-                tasks.getNumber(),
-                tasks.getSize(),
-                tasks.getTotalElements(),
-                tasks.getTotalPages(),
-                tasks.isLast()
-        );
+    public PageRes<TaskRes> searchAndFilterTasks(String title, String mode, String count,
+                                                 int page, int size,
+                                                 String sortBy, String sortDir,
+                                                 Set<String> fields) {
+        return searchPage(title, resolveSearchMode(mode), resolveCountStrategy(count), null,
+                setupPageRequest(page, size, sortBy, sortDir), fields);
     }
 
     /**
      * Searches and filters tasks by title and user ID with pagination and sorting.
      *
      * @param title The title to search for.
+     * @param mode The search mode (TEXT, PREFIX or REGEX), or null for the default mode.
+     * @param count The count strategy (EXACT, CACHED, ESTIMATED or NONE), or null for the
+     *              default strategy.
      * @param userId The ID of the user.
      * @param page The page number for pagination.
      * @param size The number of items per page.
      * @param sortBy The field to sort by.
      * @param sortDir The direction of sorting (ASC or DESC).
+     * @param fields The task properties to read, or null to read all of them.
      * @return A {@link PageRes} object containing the filtered and paginated tasks.
      */
     @Override
-    public PageRes<TaskRes> searchAndFilterTasksUser(String title, String userId,
-                                                     int page, int size,
-                                                     String sortBy, String sortDir) {
-        final Page<Task> tasks = taskRepository
-                .findActiveByTitleContainingAndUserId(
-                        title, userId,
-                        setupPageRequest(page, size, sortBy, sortDir));
+    public PageRes<TaskRes> searchAndFilterTasksUser(String title, String mode, String count,
+                                                     String userId, int page, int size,
+                                                     String sortBy, String sortDir,
+                                                     Set<String> fields) {
+        return searchPage(title, resolveSearchMode(mode), resolveCountStrategy(count), userId,
+                setupPageRequest(page, size, sortBy, sortDir), fields);
+    }
 
-        final Set<TaskRes> taskRes = tasks
-                .stream()
-                .map(TaskConverter::convertToDto)
-                .collect(Collectors.toSet());
+    /**
+     * Searches and filters tasks by title with keyset (cursor) pagination.
+     *
+     * @param title The title to search for.
+     * @param mode The search mode (TEXT, PREFIX or REGEX), or null for the default mode.
+     * @param cursor The continuation token of the previous page, or null for the first page.
+     * @param size The number of items per page.
+     * @param sortBy The field to sort by, ignored when a cursor is given.
+     * @param sortDir The direction of sorting (ASC or DESC), ignored when a cursor is given.
+     * @param withTotal Whether to count the total number of matching tasks.
+     * @param fields The task properties to read, or null to read all of them.
+     * @return A {@link CursorPageRes} object containing the page and the next continuation token.
+     * @throws BadRequestException If the cursor, the page size or the sort field is invalid.
+     */
+    @Override
+    public CursorPageRes<TaskRes> searchAndFilterTasksByCursor(String title, String mode,
+                                                               String cursor, int size,
+                                                               String sortBy, String sortDir,
+                                                               boolean withTotal,
+                                                               Set<String> fields) {
+        return searchByCursor(title, resolveSearchMode(mode), null,
+                cursor, size, sortBy, sortDir, withTotal, fields);
+    }
 
-        return new PageRes<>(
-                taskRes,
-                tasks.getNumber(),
-                tasks.getSize(),
-                tasks.getTotalElements(),
-                tasks.getTotalPages(),
-                tasks.isLast()
-        );
+    /**
+     * Searches and filters tasks by title and user ID with keyset (cursor) pagination.
+     *
+     * @param title The title to search for.
+     * @param mode The search mode (TEXT, PREFIX or REGEX), or null for the default mode.
+     * @param userId The ID of the user.
+     * @param cursor The continuation token of the previous page, or null for the first page.
+     * @param size The number of items per page.
+     * @param sortBy The field to sort by, ignored when a cursor is given.
+     * @param sortDir The direction of sorting (ASC or DESC), ignored when a cursor is given.
+     * @param withTotal Whether to count the total number of matching tasks.
+     * @param fields The task properties to read, or null to read all of them.
+     * @return A {@link CursorPageRes} object containing the page and the next continuation token.
+     * @throws BadRequestException If the cursor, the page size or the sort field is invalid.
+     */
+    @Override
+    public CursorPageRes<TaskRes> searchAndFilterTasksUserByCursor(String title, String mode,
+                                                                   String userId,
+                                                                   String cursor, int size,
+                                                                   String sortBy, String sortDir,
+                                                                   boolean withTotal,
+                                                                   Set<String> fields) {
+        return searchByCursor(title, resolveSearchMode(mode), userId,
+                cursor, size, sortBy, sortDir, withTotal, fields);
+    }
+
+    /**
+     * Computes the strong ETag of a task from its ID and version, read from the
+     * {@link TaskByIdCache} when possible. Every write increments the version.
+     *
+     * @param id The ID of the task.
+     * @return The ETag, or null if the task is not found.
+     */
+    @Override
+    public String getTaskETag(String id) {
+        return findCachedTask(id)
+                .map(task -> task.id() + "-" + Long.toHexString(task.version()))
+                .orElse(null);
     }
 
     /**
-     * Creates a new task and associates it with a user.
+     * Computes the strong ETag shared by the listings and searches over all tasks.
+     * It changes whenever any task is created, updated or deleted.
+     *
+     * @return The ETag.
+     */
+    @Override
+    public String getAllTasksETag() {
+        return toETag(taskRepository.findRevision(null));
+    }
+
+    /**
+     * Computes the strong ETag shared by the listings and searches over the tasks of a user.
+     * It changes whenever one of the user's tasks is created, updated or deleted.
+     *
+     * @param userId The ID of the user.
+     * @return The ETag.
+     */
+    @Override
+    public String getAllTasksByUserIdETag(String userId) {
+        return toETag(taskRepository.findRevision(userId));
+    }
+
+    /**
+     * Creates a new task for a user. When the {@link TaskIngestPipeline} is enabled, the
+     * insert is grouped with concurrent creations into one bulk insert.
      *
      * @param req The task creation request containing task details.
      * @return A {@link TaskRes} object representing the created task.
+     * @throws NotFoundException If the user is not found.
+     * @throws ServiceUnavailableException If the ingest queue is full.
      */
     @Override
     @Transactional
     public TaskRes createTask(TaskReq req) {
-        final User user = findUserById(req.getUserId());
+        ensureUserExists(req.getUserId());
         final Task task = TaskConverter.convertToEntity(req);
-        final Task createdTask = taskRepository.save(task);
+        final Task createdTask;
+        if (taskIngestPipeline.isEnabled()) {
+            createdTask = taskIngestPipeline.insert(task);
+        } else {
+            createdTask = taskRepository.save(task);
+            taskRepository.incrementRevisions(List.of(createdTask.getUserId()));
+        }
+        userTaskListCache.evict(createdTask.getUserId());
+        taskByIdCache.evict(createdTask.getId());
+        publishChange(TaskChangeType.CREATED, createdTask);
 
-        user.getTasks().add(createdTask);
-
-        userRepository.save(user);
         return TaskConverter.convertToDto(createdTask);
     }
 
     /**
-     * Updates an existing task.
+     * Updates an existing task in place with a single findAndModify; the task keeps its ID.
+     * When the request carries the version the client last read, the update is rejected
+     * if the task was modified since.
      *
      * @param id The ID of the task to update.
      * @param req The task update request containing new task details.
      * @return A {@link TaskRes} object representing the updated task.
+     * @throws NotFoundException If the task or the user is not found.
+     * @throws ConflictException If the task version differs from the requested one.
      */
     @Override
     @Transactional
     public TaskRes updateTask(String id, TaskReq req) {
-        final Task task = findTaskById(id);
-        final User user = findUserById(req.getUserId());
-        final Task newTask = TaskConverter.convertToEntity(req);
-
-        deleteSoftTask(task);
-
-        final Task updatedTask = taskRepository.save(newTask);
-
-        user.getTasks().remove(task);
-        user.getTasks().add(updatedTask);
+        ensureUserExists(req.getUserId());
+        final Task changes = TaskConverter.convertToEntity(req);
+        final LocalDateTime updatedAt = LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+
+        final Task previousTask = taskRepository
+                .updateActiveById(id, req.getVersion(), changes, updatedAt)
+                .orElseThrow(() -> updateRejected(id));
+        final Task updatedTask = TaskConverter
+                .convertToUpdatedEntity(previousTask, changes, updatedAt);
+        taskRepository.incrementRevisions(userIdsOf(List.of(previousTask, updatedTask)));
+        userTaskListCache.evictAll(userIdsOf(List.of(previousTask, updatedTask)));
+        taskByIdCache.evict(id);
+        publishUpdate(previousTask, updatedTask);
 
-        userRepository.save(user);
         return TaskConverter.convertToDto(updatedTask);
     }
 
@@ -207,22 +390,246 @@ public class TaskServiceImpl implements TaskService {
     @Transactional
     public void deleteTaskById(String id) {
         final Task task = findTaskById(id);
-        final User user = findUserById(task.getUserId());
 
         deleteSoftTask(task);
-        user.getTasks().remove(task);
+        userTaskListCache.evict(task.getUserId());
+        taskByIdCache.evict(id);
+        publishChange(TaskChangeType.DELETED, task);
+    }
+
+    /**
+     * Creates a batch of tasks with a single bulk insert.
+     * The users of the batch are checked with one query; items whose user is not found
+     * are reported and skipped.
+     *
+     * @param reqs The task creation requests.
+     * @return One {@link BulkItemRes} per request, in request order.
+     */
+    @Override
+    @Transactional
+    public List<BulkItemRes> createTasks(List<TaskReq> reqs) {
+        final Set<String> activeUserIds = findActiveUserIds(
+                reqs.stream().map(TaskReq::getUserId).toList());
+        final BulkItemRes[] results = new BulkItemRes[reqs.size()];
+        final List<Task> tasks = new ArrayList<>();
+        final List<Integer> indexes = new ArrayList<>();
+
+        for (int i = 0; i < reqs.size(); i++) {
+            if (!activeUserIds.contains(reqs.get(i).getUserId())) {
+                results[i] = notFound(i, null, ErrorCode.USER_NOT_FOUND);
+                continue;
+            }
+            tasks.add(TaskConverter.convertToEntity(reqs.get(i)));
+            indexes.add(i);
+        }
+
+        final List<Task> createdTasks = tasks.isEmpty() ? List.of() : taskRepository.insert(tasks);
+        if (!createdTasks.isEmpty()) {
+            taskRepository.incrementRevisions(userIdsOf(createdTasks));
+        }
+        userTaskListCache.evictAll(userIdsOf(createdTasks));
+        taskByIdCache.evictAll(createdTasks.stream().map(Task::getId).toList());
+        createdTasks.forEach(task -> publishChange(TaskChangeType.CREATED, task));
+        for (int i = 0; i < createdTasks.size(); i++) {
+            results[indexes.get(i)] = succeeded(indexes.get(i),
+                    BulkItemStatus.CREATED, createdTasks.get(i));
+        }
+        return Arrays.asList(results);
+    }
+
+    /**
+     * Updates a batch of tasks in place; the tasks keep their IDs. The existing tasks and
+     * their users are each loaded with one query and the updates are applied with one
+     * unordered bulk write, each guarded by the version of its task: the one carried by the
+     * item when given, otherwise the one just loaded. An item whose task was modified in
+     * between is reported as CONFLICT, one whose task was deleted as NOT_FOUND.
+     * <p>
+     * The bulk write only reports how many updates applied. When some did not, the tasks are
+     * read again and an update counts as applied if the task carries its version and
+     * modification date.
+     *
+     * @param items The task update requests.
+     * @return One {@link BulkItemRes} per request, in request order.
+     * @throws BadRequestException If the batch contains the same task ID more than once.
+     */
+    @Override
+    @Transactional
+    public List<BulkItemRes> updateTasks(List<TaskUpdateItemReq> items) {
+        final List<String> ids = items.stream().map(TaskUpdateItemReq::getId).toList();
+        ensureDistinct(ids);
+
+        final Map<String, Task> existingTasks = findActiveTasks(ids);
+        final Set<String> activeUserIds = findActiveUserIds(
+                items.stream().map(item -> item.getTask().getUserId()).toList());
+        final BulkItemRes[] results = new BulkItemRes[items.size()];
+        final Map<String, Task> changes = new HashMap<>();
+        final Map<String, Long> versions = new HashMap<>();
+
+        for (int i = 0; i < items.size(); i++) {
+            final TaskUpdateItemReq item = items.get(i);
+            final Task existingTask = existingTasks.get(item.getId());
+            final Long version = item.getTask().getVersion();
+            if (existingTask == null) {
+                results[i] = notFound(i, item.getId(), ErrorCode.TASK_NOT_FOUND);
+            } else if (!activeUserIds.contains(item.getTask().getUserId())) {
+                results[i] = notFound(i, item.getId(), ErrorCode.USER_NOT_FOUND);
+            } else if (version != null && !version.equals(existingTask.getVersion())) {
+                results[i] = conflict(i, item.getId());
+            } else {
+                changes.put(item.getId(), TaskConverter.convertToEntity(item.getTask()));
+                versions.put(item.getId(), existingTask.getVersion());
+            }
+        }
+
+        if (changes.isEmpty()) {
+            return Arrays.asList(results);
+        }
+
+        final LocalDateTime updatedAt = LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+        final boolean allUpdated =
+                taskRepository.updateAllActiveById(changes, versions, updatedAt) == changes.size();
+        final Map<String, Task> currentTasks = allUpdated ? Map.of() : findActiveTasks(changes.keySet());
+        final List<Task> changedTasks = new ArrayList<>();
+
+        for (int i = 0; i < items.size(); i++) {
+            final String id = items.get(i).getId();
+            if (!changes.containsKey(id)) {
+                continue;
+            }
+            final Task previousTask = existingTasks.get(id);
+            final Task updatedTask = TaskConverter
+                    .convertToUpdatedEntity(previousTask, changes.get(id), updatedAt);
+            final Task currentTask = currentTasks.get(id);
+            if (!allUpdated && currentTask == null) {
+                results[i] = notFound(i, id, ErrorCode.TASK_NOT_FOUND);
+            } else if (!allUpdated
+                    && !(updatedAt.equals(currentTask.getUpdatedAt())
+                    && updatedTask.getVersion().equals(currentTask.getVersion()))) {
+                results[i] = conflict(i, id);
+            } else {
+                changedTasks.add(previousTask);
+                changedTasks.add(updatedTask);
+                publishUpdate(previousTask, updatedTask);
+                results[i] = succeeded(i, BulkItemStatus.UPDATED, updatedTask);
+            }
+        }
+
+        if (!changedTasks.isEmpty()) {
+            taskRepository.incrementRevisions(userIdsOf(changedTasks));
+        }
+        userTaskListCache.evictAll(userIdsOf(changedTasks));
+        taskByIdCache.evictAll(changes.keySet());
+        return Arrays.asList(results);
+    }
+
+    /**
+     * Soft deletes a batch of tasks with a single update.
+     *
+     * @param ids The IDs of the tasks to delete.
+     * @return One {@link BulkItemRes} per ID, in request order.
+     * @throws BadRequestException If the batch contains the same task ID more than once.
+     */
+    @Override
+    @Transactional
+    public List<BulkItemRes> deleteTasks(List<String> ids) {
+        ensureDistinct(ids);
+
+        final Map<String, Task> existingTasks = findActiveTasks(ids);
+        if (!existingTasks.isEmpty()) {
+            taskRepository.softDeleteActiveByIdIn(existingTasks.keySet(),
+                    LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS));
+            taskRepository.incrementRevisions(userIdsOf(existingTasks.values()));
+            userTaskListCache.evictAll(userIdsOf(existingTasks.values()));
+            taskByIdCache.evictAll(existingTasks.keySet());
+            existingTasks.values().forEach(task -> publishChange(TaskChangeType.DELETED, task));
+        }
+
+        final List<BulkItemRes> results = new ArrayList<>(ids.size());
+        for (int i = 0; i < ids.size(); i++) {
+            final String id = ids.get(i);
+            results.add(existingTasks.containsKey(id) ?
+                    new BulkItemRes(i, id, BulkItemStatus.DELETED, null, null, null) :
+                    notFound(i, id, ErrorCode.TASK_NOT_FOUND));
+        }
+        return results;
+    }
+
+    /**
+     * Publishes an in-place task update. A task moved to another user is published as
+     * deleted to its previous owner and as created to its new one.
+     *
+     * @param previousTask The task before the update.
+     * @param updatedTask The task after the update.
+     */
+    private void publishUpdate(Task previousTask, Task updatedTask) {
+        if (!previousTask.getUserId().equals(updatedTask.getUserId())) {
+            publishChange(TaskChangeType.DELETED, previousTask);
+            publishChange(TaskChangeType.CREATED, updatedTask);
+        } else {
+            publishChange(TaskChangeType.UPDATED, updatedTask);
+        }
+    }
+
+    /**
+     * Publishes a task change to the event streams of its owner, unless the events are
+     * sourced from the MongoDB change stream.
+     *
+     * @param type The kind of change.
+     * @param task The task as created, updated or deleted.
+     */
+    private void publishChange(TaskChangeType type, Task task) {
+        if (!changeStreamEvents) {
+            taskEventBus.publish(new TaskChangeEvent(
+                    type, task.getUserId(), TaskConverter.convertToDto(task)));
+        }
+    }
 
-        userRepository.save(user);
+    /**
+     * Collects the distinct user IDs of some tasks.
+     *
+     * @param tasks The tasks.
+     * @return The IDs of the users owning the tasks.
+     */
+    private Set<String> userIdsOf(Collection<Task> tasks) {
+        return tasks.stream().map(Task::getUserId).collect(Collectors.toSet());
+    }
+
+    /**
+     * Formats a task revision as an ETag value.
+     *
+     * @param revision The revision of the tasks.
+     * @return The ETag.
+     */
+    private String toETag(long revision) {
+        return Long.toHexString(revision);
     }
 
     /**
-     * Performs a soft delete on a task by marking it as DELETED.
+     * Performs a soft delete on a task by marking it as DELETED with an atomic update,
+     * then increments the revision of its owner.
      *
      * @param task The task to delete.
      */
     private void deleteSoftTask(Task task) {
-        task.setObjStatus(ObjStatus.DELETED);
-        taskRepository.save(task);
+        taskRepository.softDeleteActiveByIdIn(List.of(task.getId()),
+                LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS));
+        taskRepository.incrementRevisions(List.of(task.getUserId()));
+    }
+
+    /**
+     * Explains why an in-place update matched no task.
+     *
+     * @param id The ID of the task.
+     * @return A {@link ConflictException} if the task is still active, so its version moved on,
+     *         or a {@link NotFoundException} otherwise.
+     */
+    private CustomException updateRejected(String id) {
+        if (taskRepository.findActiveVersionById(id).isPresent()) {
+            return new ConflictException(
+                    ErrorCode.TASK_VERSION_CONFLICT.getErrCode(),
+                    ErrorCode.TASK_VERSION_CONFLICT.getErrMessage());
+        }
+        return new NotFoundException(ErrorCode.TASK_NOT_FOUND.getErrMessage());
     }
 
     /**
@@ -239,33 +646,245 @@ public class TaskServiceImpl implements TaskService {
     }
 
     /**
-     * Finds a user by their ID.
+     * Checks that an active user exists, without loading the user document.
      *
-     * @param id The ID of the user to find.
-     * @return The {@link User} entity if found.
+     * @param id The ID of the user.
      * @throws NotFoundException If the user is not found.
      */
-    private User findUserById(String id) {
-         return userRepository.findActiveById(id)
-                 .orElseThrow(()-> new NotFoundException(
-                         ErrorCode.USER_NOT_FOUND.getErrMessage()));
+    private void ensureUserExists(String id) {
+        if (!userRepository.existsActiveById(id)) {
+            throw new NotFoundException(
+                    ErrorCode.USER_NOT_FOUND.getErrMessage());
+        }
+    }
+
+    /**
+     * Loads the IDs of the active users among the given ones with a single query.
+     *
+     * @param userIds The IDs of the users, possibly repeated.
+     * @return The IDs of the users that exist and are active.
+     */
+    private Set<String> findActiveUserIds(Collection<String> userIds) {
+        return userRepository.findActiveByIdIn(new HashSet<>(userIds))
+                .stream()
+                .map(User::getId)
+                .collect(Collectors.toSet());
     }
 
     /**
-     * Finds a task by its ID and associated user ID.
+     * Loads the active tasks with the given IDs with a single query.
+     *
+     * @param ids The IDs of the tasks.
+     * @return The active tasks, keyed by ID.
+     */
+    private Map<String, Task> findActiveTasks(Collection<String> ids) {
+        return taskRepository.findAllActiveByIdIn(ids)
+                .stream()
+                .collect(Collectors.toMap(Task::getId, Function.identity()));
+    }
+
+    /**
+     * Rejects a batch that references the same task more than once.
+     *
+     * @param ids The IDs of the batch.
+     * @throws BadRequestException If an ID is repeated.
+     */
+    private void ensureDistinct(List<String> ids) {
+        if (new HashSet<>(ids).size() != ids.size()) {
+            throw new BadRequestException(
+                    ErrorCode.DUPLICATE_BULK_ITEM.getErrCode(),
+                    ErrorCode.DUPLICATE_BULK_ITEM.getErrMessage());
+        }
+    }
+
+    private BulkItemRes succeeded(int index, BulkItemStatus status, Task task) {
+        return new BulkItemRes(index, task.getId(), status,
+                TaskConverter.convertToDto(task), null, null);
+    }
+
+    private BulkItemRes notFound(int index, String id, ErrorCode errorCode) {
+        return new BulkItemRes(index, id, BulkItemStatus.NOT_FOUND, null,
+                errorCode.getErrCode(), errorCode.getErrMessage());
+    }
+
+    private BulkItemRes conflict(int index, String id) {
+        return new BulkItemRes(index, id, BulkItemStatus.CONFLICT, null,
+                ErrorCode.TASK_VERSION_CONFLICT.getErrCode(),
+                ErrorCode.TASK_VERSION_CONFLICT.getErrMessage());
+    }
+
+    /**
+     * Looks up an active task in the {@link TaskByIdCache}, loading it on a miss. Unknown IDs
+     * are cached as absent for a short while, so repeated lookups of missing tasks do not
+     * reach the database.
      *
      * @param id The ID of the task.
-     * @param userId The ID of the user.
-     * @return The {@link Task} entity if found.
-     * @throws NotFoundException If the task is not found.
+     * @return The task, or empty if no active task has this ID.
+     */
+    private Optional<TaskRes> findCachedTask(String id) {
+        return taskByIdCache.get(id, key -> taskRepository.findTaskActiveById(key)
+                .map(TaskConverter::convertToDto));
+    }
+
+    /**
+     * Fetches one keyset page, reading one extra row to know whether a next page exists.
+     *
+     * @param title The title to search for.
+     * @param mode The search mode.
+     * @param userId The ID of the user, or null to search all users.
+     * @param cursor The continuation token of the previous page, or null for the first page.
+     * @param size The number of items per page.
+     * @param sortBy The field to sort by.
+     * @param sortDir The direction of sorting (ASC or DESC).
+     * @param withTotal Whether to count the total number of matching tasks.
+     * @param fields The task properties to read, or null to read all of them.
+     * @return A {@link CursorPageRes} object containing the page and the next continuation token.
+     */
+    private CursorPageRes<TaskRes> searchByCursor(String title, TaskSearchMode mode,
+                                                  String userId, String cursor,
+                                                  int size, String sortBy, String sortDir,
+                                                  boolean withTotal, Set<String> fields) {
+        final TaskCursor after = cursor == null || cursor.isBlank() ?
+                null : CursorConverter.decode(cursor);
+        final String sortField = after != null ? after.sortBy() : sortBy;
+        final Sort.Direction direction = after != null ? after.direction() :
+                sortDir.equalsIgnoreCase(Sort.Direction.ASC.name()) ?
+                        Sort.Direction.ASC : Sort.Direction.DESC;
+
+        if (size < 1 || !CursorConverter.SORTABLE_FIELDS.contains(sortField)) {
+            throw new BadRequestException(
+                    ErrorCode.ILLEGAL_ARGUMENT.getErrCode(),
+                    ErrorCode.ILLEGAL_ARGUMENT.getErrMessage());
+        }
+
+        final List<Task> tasks = taskRepository.findActiveByTitleAfterCursor(
+                title, userId, mode, sortField, direction, after, size + 1, fields);
+
+        final boolean last = tasks.size() <= size;
+        final List<Task> page = last ? tasks : tasks.subList(0, size);
+        final String nextCursor = last ? null : CursorConverter.encode(
+                CursorConverter.convertToCursor(page.get(page.size() - 1), sortField, direction));
+
+        return new CursorPageRes<>(
+                page.stream().map(TaskConverter::convertToDto).toList(),
+                size,
+                nextCursor,
+                last,
+                withTotal ? taskRepository.countActiveByTitle(title, userId, mode) : null
+        );
+    }
+
+    /**
+     * Fetches one offset page and its total according to the count strategy.
+     * EXACT runs the count query alongside the page. The other strategies read one extra row
+     * to know whether a next page exists, and skip the count when that already proves the
+     * total; otherwise CACHED shares one count between the pages of a search for as long as
+     * the version its ETag is derived from is unchanged, ESTIMATED counts up to a cap, and
+     * NONE leaves the total out. A cached or capped count is raised to at least the rows the
+     * page itself proves, so past the cap ESTIMATED returns a lower bound of the total.
+     *
+     * @param title The title to search for.
+     * @param mode The search mode.
+     * @param strategy The count strategy.
+     * @param userId The ID of the user, or null to search all users.
+     * @param pageRequest The pagination and sorting parameters.
+     * @param fields The task properties to read, or null to read all of them.
+     * @return A {@link PageRes} object containing the filtered and paginated tasks.
+     */
+    private PageRes<TaskRes> searchPage(String title, TaskSearchMode mode, CountStrategy strategy,
+                                        String userId, PageRequest pageRequest,
+                                        Set<String> fields) {
+        if (strategy == CountStrategy.EXACT) {
+            final Page<Task> tasks = taskRepository
+                    .searchActiveByTitle(title, userId, mode, pageRequest, fields);
+            return toPageRes(tasks, tasks.getTotalElements());
+        }
+
+        final Slice<Task> tasks = taskRepository
+                .searchActiveSliceByTitle(title, userId, mode, pageRequest, fields);
+        Long total;
+        if (!tasks.hasNext() && (tasks.hasContent() || pageRequest.getOffset() == 0)) {
+            total = pageRequest.getOffset() + tasks.getNumberOfElements();
+        } else {
+            total = switch (strategy) {
+                case CACHED -> searchCountCache.get(title, userId, mode,
+                        toETag(taskRepository.findRevision(userId)),
+                        () -> taskRepository.countActiveByTitle(title, userId, mode));
+                case ESTIMATED -> taskRepository
+                        .countActiveByTitleUpTo(title, userId, mode, countEstimateCap);
+                default -> null;
+            };
+        }
+        if (total != null) {
+            total = Math.max(total, pageRequest.getOffset() + tasks.getNumberOfElements()
+                    + (tasks.hasNext() ? 1 : 0));
+        }
+        return toPageRes(tasks, total);
+    }
+
+    /**
+     * Converts a page of tasks to its response.
+     *
+     * @param tasks The page of tasks.
+     * @param total The total number of matching tasks, or null if not counted.
+     * @return The {@link PageRes}, whose number of pages is derived from the total.
+     */
+    private PageRes<TaskRes> toPageRes(Slice<Task> tasks, Long total) {
+        final Set<TaskRes> taskRes = tasks
+                .stream()
+                .map(TaskConverter::convertToDto)
+                .collect(Collectors.toSet());
+
+        return new PageRes<>(
+                taskRes,
+                tasks.getNumber(),
+                tasks.getSize(),
+                total,
+                total == null ? null :
+                        tasks.getSize() == 0 ? 1 : (int) Math.ceil((double) total / tasks.getSize()),
+                !tasks.hasNext()
+        );
+    }
+
+    /**
+     * Resolves the requested count strategy, falling back to the configured default.
+     *
+     * @param count The requested count strategy, or null.
+     * @return The {@link CountStrategy} to use.
+     * @throws BadRequestException If the strategy is unknown.
+     */
+    private CountStrategy resolveCountStrategy(String count) {
+        final String requested = count == null || count.isBlank() ? defaultCountStrategy : count;
+        try {
+            return CountStrategy.valueOf(requested.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException ex) {
+            throw new BadRequestException(
+                    ErrorCode.ILLEGAL_ARGUMENT.getErrCode(),
+                    ErrorCode.ILLEGAL_ARGUMENT.getErrMessage());
+        }
+    }
+
+    /**
+     * Resolves the requested search mode, falling back to the configured default.
+     *
+     * @param mode The requested search mode, or null.
+     * @return The {@link TaskSearchMode} to use.
+     * @throws BadRequestException If the mode is unknown or REGEX search is disabled.
      */
-    private Task findTaskByIdAndUserId(String id, String userId) {
-        return taskRepository
-                .findTaskActiveByIdAndUserId(id,userId)
-                .orElseThrow(
-                        ()-> new NotFoundException(
-                                ErrorCode.TASK_NOT_FOUND.getErrMessage())
-                );
+    private TaskSearchMode resolveSearchMode(String mode) {
+        final String requested = mode == null || mode.isBlank() ? defaultSearchMode : mode;
+        try {
+            final TaskSearchMode searchMode =
+                    TaskSearchMode.valueOf(requested.toUpperCase(Locale.ROOT));
+            if (searchMode == TaskSearchMode.REGEX && !regexSearchEnabled) {
+                throw new IllegalArgumentException("Regex search is disabled");
+            }
+            return searchMode;
+        } catch (IllegalArgumentException ex) {
+            throw new BadRequestException(
+                    ErrorCode.ILLEGAL_ARGUMENT.getErrCode(),
+                    ErrorCode.ILLEGAL_ARGUMENT.getErrMessage());
+        }
     }
 
     /**
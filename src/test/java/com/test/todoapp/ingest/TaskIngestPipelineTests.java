@@ -0,0 +1,150 @@
+package com.test.todoapp.ingest;
+
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.bulk.BulkWriteResult;
+import com.test.todoapp.exception.ServiceUnavailableException;
+import com.test.todoapp.model.entity.Task;
+import com.test.todoapp.repository.TaskRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.bson.BsonDocument;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TaskIngestPipelineTests {
+
+    private final MongoTemplate mongoTemplate = mock(MongoTemplate.class);
+
+    private final TaskRepository taskRepository = mock(TaskRepository.class);
+
+    private final BulkOperations bulkOps = mock(BulkOperations.class);
+
+    private final ExecutorService callers = Executors.newVirtualThreadPerTaskExecutor();
+
+    private TaskIngestPipeline pipeline;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        callers.shutdownNow();
+        if (pipeline != null) {
+            pipeline.close();
+        }
+    }
+
+    @Test
+    void concurrentInsertsShareOneBulkWrite() {
+        pipeline = start(3, 10_000, 10_000);
+
+        final List<Task> inserted = insertConcurrently("a", "b", "c").stream()
+                .map(CompletableFuture::join)
+                .toList();
+
+        verify(bulkOps, times(1)).insert(anyList());
+        verify(taskRepository, times(1)).incrementRevisions(Set.of("user"));
+        assertEquals(3, inserted.size());
+        inserted.forEach(task -> {
+            assertNotNull(task.getId());
+            assertNotNull(task.getCreatedAt());
+            assertEquals(0L, task.getVersion());
+        });
+    }
+
+    @Test
+    void writeErrorsOnlyFailTheTasksTheyReport() {
+        when(bulkOps.execute()).thenThrow(new BulkOperationException("insert failed",
+                new MongoBulkWriteException(BulkWriteResult.unacknowledged(),
+                        List.of(new BulkWriteError(121, "Document failed validation", new BsonDocument(), 1)),
+                        null, null, Set.of())));
+        pipeline = start(2, 10_000, 10_000);
+
+        final List<CompletableFuture<Task>> results = insertConcurrently("a", "b");
+        results.forEach(result -> result.handle((task, ex) -> task).join());
+        final Map<String, CompletableFuture<Task>> resultsByTitle = Map.of(
+                "a", results.get(0), "b", results.get(1));
+        final List<Task> batch = capturedBatch();
+
+        final String committed = batch.get(0).getTitle();
+        assertEquals(committed, resultsByTitle.get(committed).join().getTitle());
+        final ExecutionException failure = assertThrows(ExecutionException.class,
+                () -> resultsByTitle.get(batch.get(1).getTitle()).get());
+        assertInstanceOf(BulkOperationException.class, failure.getCause());
+    }
+
+    @Test
+    void insertFailsWhenNotCommittedWithinTheTimeout() {
+        final CountDownLatch release = new CountDownLatch(1);
+        when(bulkOps.execute()).thenAnswer(invocation -> {
+            release.await();
+            return null;
+        });
+        pipeline = start(1, 0, 100);
+
+        assertThrows(ServiceUnavailableException.class, () -> pipeline.insert(task("a")));
+        release.countDown();
+    }
+
+    @Test
+    void closedPipelineRejectsTasks() throws InterruptedException {
+        pipeline = start(1, 0, 10_000);
+        pipeline.close();
+
+        assertThrows(ServiceUnavailableException.class, () -> pipeline.insert(task("a")));
+    }
+
+    @Test
+    void writerDeathFailsItsBatchAndRejectsLaterTasks() {
+        when(bulkOps.execute()).thenThrow(new StackOverflowError());
+        pipeline = start(1, 0, 10_000);
+
+        assertThrows(ServiceUnavailableException.class, () -> pipeline.insert(task("a")));
+        assertThrows(ServiceUnavailableException.class, () -> pipeline.insert(task("b")));
+    }
+
+    private TaskIngestPipeline start(int batchSize, long linger, long timeout) {
+        when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Task.class)).thenReturn(bulkOps);
+        when(bulkOps.insert(anyList())).thenReturn(bulkOps);
+        return new TaskIngestPipeline(mongoTemplate, taskRepository, new SimpleMeterRegistry(),
+                true, batchSize, linger, 100, timeout);
+    }
+
+    private List<CompletableFuture<Task>> insertConcurrently(String... titles) {
+        return Stream.of(titles)
+                .map(title -> CompletableFuture.supplyAsync(() -> pipeline.insert(task(title)), callers))
+                .toList();
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Task> capturedBatch() {
+        final ArgumentCaptor<List<Task>> batch = ArgumentCaptor.forClass(List.class);
+        verify(bulkOps).insert(batch.capture());
+        return batch.getValue();
+    }
+
+    private static Task task(String title) {
+        return Task.builder().title(title).description("Ingested").userId("user").build();
+    }
+}
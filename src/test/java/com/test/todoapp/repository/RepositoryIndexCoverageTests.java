@@ -0,0 +1,223 @@
+package com.test.todoapp.repository;
+
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.CommandStartedEvent;
+import com.test.todoapp.dtos.task.TaskCursor;
+import com.test.todoapp.model.entity.Task;
+import com.test.todoapp.model.entity.User;
+import com.test.todoapp.model.enums.ObjStatus;
+import com.test.todoapp.model.enums.Role;
+import com.test.todoapp.model.enums.TaskSearchMode;
+import org.bson.BsonDocument;
+import org.bson.BsonString;
+import org.bson.BsonValue;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.mongo.MongoClientSettingsBuilderCustomizer;
+import org.springframework.boot.test.autoconfigure.data.mongo.DataMongoTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.lang.reflect.Method;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Runs every repository query against a real Mongo instance, captures the commands it sends
+ * and fails if the winning plan of any of them contains a COLLSCAN stage. It needs Docker and
+ * fails, rather than being skipped, when Docker is not available.
+ */
+@DataMongoTest
+@Testcontainers
+class RepositoryIndexCoverageTests {
+
+    @Container
+    @ServiceConnection
+    static MongoDBContainer mongo = new MongoDBContainer("mongo:7.0");
+
+    private static final Set<String> EXPLAINABLE_COMMANDS = Set.of("find", "count", "aggregate", "update", "findAndModify");
+
+    private static final Set<String> SESSION_FIELDS =
+            Set.of("$db", "lsid", "$clusterTime", "$readPreference", "txnNumber");
+
+    private static final List<BsonDocument> CAPTURED = new CopyOnWriteArrayList<>();
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TokenRevocationRepository tokenRevocationRepository;
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @TestConfiguration
+    static class CommandCaptureConfig {
+
+        @Bean
+        MongoClientSettingsBuilderCustomizer commandCapture() {
+            return builder -> builder.addCommandListener(new CommandListener() {
+                @Override
+                public void commandStarted(CommandStartedEvent event) {
+                    if (EXPLAINABLE_COMMANDS.contains(event.getCommandName())) {
+                        CAPTURED.add(BsonDocument.parse(event.getCommand().toJson()));
+                    }
+                }
+            });
+        }
+    }
+
+    @Test
+    void everyRepositoryQueryIsExplained() {
+        final Set<String> covered = repositoryQueries("user", "task").keySet().stream()
+                .map(name -> name.replaceAll("\\[.*]$", ""))
+                .collect(Collectors.toSet());
+
+        Stream.of(TaskRepository.class, TaskRepositoryCustom.class, UserRepository.class,
+                        TokenRevocationRepository.class)
+                .flatMap(type -> Arrays.stream(type.getDeclaredMethods()))
+                .filter(method -> !method.isSynthetic() && !method.isDefault())
+                .map(Method::getName)
+                .forEach(name -> assertTrue(covered.contains(name),
+                        "Repository query " + name + " has no explain-plan check"));
+    }
+
+    @TestFactory
+    Stream<DynamicTest> repositoryQueriesDoNotScanCollection() {
+        final User user = userRepository.save(User.builder()
+                .name("Index")
+                .email("index@test.com")
+                .password("hash")
+                .role(Role.MEMBER)
+                .objStatus(ObjStatus.ACTIVE)
+                .build());
+        final Task task = taskRepository.save(Task.builder()
+                .title("Write index tests")
+                .description("Explain every query")
+                .userId(user.getId())
+                .objStatus(ObjStatus.ACTIVE)
+                .build());
+
+        return repositoryQueries(user.getId(), task.getId()).entrySet().stream()
+                .map(query -> DynamicTest.dynamicTest(query.getKey(), () -> {
+                    CAPTURED.clear();
+                    query.getValue().run();
+
+                    assertFalse(CAPTURED.isEmpty(), "No query captured for " + query.getKey());
+                    for (BsonDocument command : CAPTURED) {
+                        final BsonDocument plan = explain(command)
+                                .getDocument("queryPlanner")
+                                .getDocument("winningPlan");
+                        assertFalse(containsCollScan(plan),
+                                query.getKey() + " does a COLLSCAN: " + command.toJson());
+                    }
+                }));
+    }
+
+    /**
+     * Lists one invocation per repository query method. Overloads or variants are
+     * suffixed with a bracketed label.
+     */
+    private Map<String, Runnable> repositoryQueries(String userId, String taskId) {
+        final Map<String, Runnable> queries = new LinkedHashMap<>();
+        final PageRequest page = PageRequest.of(0, 10, Sort.by("createdAt").descending());
+        final TaskCursor cursor = new TaskCursor("title", Sort.Direction.ASC, taskId, "write");
+
+        queries.put("findAllActiveWithFields",
+                () -> taskRepository.findAllActiveWithFields(null, Set.of("title")));
+        queries.put("findAllActiveWithFields[user]",
+                () -> taskRepository.findAllActiveWithFields(userId, null));
+        queries.put("findTaskActiveById", () -> taskRepository.findTaskActiveById(taskId));
+        queries.put("findActiveVersionById", () -> taskRepository.findActiveVersionById(taskId));
+        queries.put("findRevision", () -> taskRepository.findRevision(null));
+        queries.put("findRevision[user]", () -> taskRepository.findRevision(userId));
+        queries.put("incrementRevisions", () -> taskRepository.incrementRevisions(List.of(userId)));
+        queries.put("updateActiveById", () -> taskRepository.updateActiveById(
+                "000000000000000000000000", 0L, Task.builder().title("write").build(), LocalDateTime.now()));
+        queries.put("updateAllActiveById", () -> taskRepository.updateAllActiveById(
+                Map.of("000000000000000000000000", Task.builder().title("write").build()),
+                Map.of("000000000000000000000000", 0L), LocalDateTime.now()));
+        queries.put("findAllActiveByUserId", () -> taskRepository.findAllActiveByUserId(userId));
+        queries.put("findAllActiveByIdIn", () -> taskRepository.findAllActiveByIdIn(List.of(taskId)));
+        queries.put("softDeleteActiveByIdIn",
+                () -> taskRepository.softDeleteActiveByIdIn(List.of("000000000000000000000000"),
+                        LocalDateTime.now()));
+
+        for (TaskSearchMode mode : List.of(TaskSearchMode.TEXT, TaskSearchMode.PREFIX)) {
+            queries.put("searchActiveByTitle[" + mode + "]",
+                    () -> taskRepository.searchActiveByTitle("write", null, mode, page, null));
+            queries.put("searchActiveByTitle[" + mode + ",user]",
+                    () -> taskRepository.searchActiveByTitle("write", userId, mode, page, Set.of("title")));
+            queries.put("searchActiveSliceByTitle[" + mode + "]",
+                    () -> taskRepository.searchActiveSliceByTitle("write", null, mode, page, null));
+            queries.put("findActiveByTitleAfterCursor[" + mode + "]",
+                    () -> taskRepository.findActiveByTitleAfterCursor(
+                            "write", userId, mode, "title", Sort.Direction.ASC, cursor, 11, null));
+            queries.put("countActiveByTitle[" + mode + "]",
+                    () -> taskRepository.countActiveByTitle("write", null, mode));
+            queries.put("countActiveByTitleUpTo[" + mode + "]",
+                    () -> taskRepository.countActiveByTitleUpTo("write", userId, mode, 1000));
+        }
+
+        queries.put("streamAllActive", () -> taskRepository.streamAllActive(null, 100, null).close());
+        queries.put("streamAllActive[user]",
+                () -> taskRepository.streamAllActive(userId, 100, Set.of("title")).close());
+
+        queries.put("findAllCreatedAfter",
+                () -> tokenRevocationRepository.findAllCreatedAfter(Instant.EPOCH));
+        queries.put("findActiveByEmail", () -> userRepository.findActiveByEmail("index@test.com"));
+        queries.put("findActivePrincipalByEmail",
+                () -> userRepository.findActivePrincipalByEmail("index@test.com"));
+        queries.put("existsByEmail", () -> userRepository.existsByEmail("index@test.com"));
+        queries.put("findActiveById", () -> userRepository.findActiveById(userId));
+        queries.put("existsActiveById", () -> userRepository.existsActiveById(userId));
+        queries.put("findActiveByIdIn", () -> userRepository.findActiveByIdIn(List.of(userId)));
+        return queries;
+    }
+
+    private BsonDocument explain(BsonDocument command) {
+        SESSION_FIELDS.forEach(command::remove);
+        return mongoTemplate.getDb().runCommand(
+                new BsonDocument("explain", command)
+                        .append("verbosity", new BsonString("queryPlanner")),
+                BsonDocument.class);
+    }
+
+    private static boolean containsCollScan(BsonValue node) {
+        if (node.isDocument()) {
+            final BsonDocument document = node.asDocument();
+            final BsonValue stage = document.get("stage");
+            if (stage != null && stage.isString() && "COLLSCAN".equals(stage.asString().getValue())) {
+                return true;
+            }
+            return document.values().stream().anyMatch(RepositoryIndexCoverageTests::containsCollScan);
+        }
+        if (node.isArray()) {
+            return node.asArray().stream().anyMatch(RepositoryIndexCoverageTests::containsCollScan);
+        }
+        return false;
+    }
+}